@@ -0,0 +1,113 @@
+package com.mshah972.blackjack.analytics;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Streaming detector for card counters and other advantage players.
+ * <p>
+ * Each session reports its bets and decisions together with the
+ * {@link com.mshah972.blackjack.service.CardCountingService} true count at the moment the
+ * player committed to them: for a bet, the count read before the round is dealt; for a
+ * decision, the count before the action. Per player the detector keeps only fixed-size
+ * running statistics:
+ * <ul>
+ *   <li>the correlation between bet size and true count,</li>
+ *   <li>the bet spread, i.e. average bet at true count {@code >= 2} over average bet at {@code <= 0},</li>
+ *   <li>the correlation between standing on 12–16 and the true count.</li>
+ * </ul>
+ * These are combined into a score between 0 and 1 that is updated on every event, and the
+ * highest scores are kept in a bounded top-K. Safe for concurrent use across sessions;
+ * events of one player, including their leaderboard updates, are serialized on that
+ * player's profile. Locks are always taken profile first, then leaderboard.
+ */
+public class AdvantagePlayDetector {
+    private final ConcurrentMap<String, PlayerProfile> profiles = new ConcurrentHashMap<>();
+    private final SuspicionLeaderboard leaderboard;
+    private final long minHands;
+
+    /**
+     * @param topK number of most suspicious players to keep
+     * @param minHands hands a player must have bet before being scored
+     */
+    public AdvantagePlayDetector(int topK, long minHands) {
+        this.leaderboard = new SuspicionLeaderboard(topK);
+        this.minHands = minHands;
+    }
+
+    /**
+     * Records the bet a player placed for a new round.
+     *
+     * @param playerId the player
+     * @param bet the initial bet
+     * @param trueCount the true count before the round was dealt
+     */
+    public void recordBet(String playerId, double bet, double trueCount) {
+        PlayerProfile profile = profiles.computeIfAbsent(playerId, id -> new PlayerProfile());
+        synchronized (profile) {
+            profile.recordBet(bet, trueCount);
+            // Offered under the profile lock so a stale score cannot overwrite a newer one
+            leaderboard.offer(playerId, profile.score(minHands));
+        }
+    }
+
+    /**
+     * Records a playing decision.
+     *
+     * @param playerId the player
+     * @param playerTotal the player's hand value when deciding
+     * @param decision the decision taken
+     * @param trueCount the true count before the action
+     */
+    public void recordDecision(String playerId, int playerTotal, Decision decision, double trueCount) {
+        PlayerProfile profile = profiles.computeIfAbsent(playerId, id -> new PlayerProfile());
+        synchronized (profile) {
+            profile.recordDecision(playerTotal, decision, trueCount);
+            // Offered under the profile lock so a stale score cannot overwrite a newer one
+            leaderboard.offer(playerId, profile.score(minHands));
+        }
+    }
+
+    /**
+     * Returns a player's current score.
+     *
+     * @param playerId the player
+     * @return the score between 0 and 1, or 0 for unknown players
+     */
+    public double getScore(String playerId) {
+        PlayerProfile profile = profiles.get(playerId);
+        if (profile == null) {
+            return 0;
+        }
+        synchronized (profile) {
+            return profile.score(minHands);
+        }
+    }
+
+    /**
+     * Returns the most suspicious players seen so far.
+     *
+     * @return up to {@code topK} suspects, highest score first
+     */
+    public List<Suspect> getTopSuspects() {
+        return leaderboard.snapshot();
+    }
+
+    /**
+     * Drops a player's running statistics when their session ends.
+     * A player already on the leaderboard stays there.
+     *
+     * @param playerId the player
+     */
+    public void endSession(String playerId) {
+        profiles.remove(playerId);
+    }
+
+    /**
+     * @return the number of players currently tracked
+     */
+    public int getTrackedPlayers() {
+        return profiles.size();
+    }
+}
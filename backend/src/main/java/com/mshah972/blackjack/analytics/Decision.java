@@ -0,0 +1,11 @@
+package com.mshah972.blackjack.analytics;
+
+/**
+ * Player decisions tracked by the advantage-play detector.
+ */
+public enum Decision {
+    HIT,
+    STAND,
+    DOUBLE,
+    SURRENDER
+}
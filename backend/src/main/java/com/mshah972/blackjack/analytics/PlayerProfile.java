@@ -0,0 +1,73 @@
+package com.mshah972.blackjack.analytics;
+
+/**
+ * Fixed-size running statistics for one player. Callers synchronize on the profile.
+ */
+final class PlayerProfile {
+    /** True count at or above which a counter raises the bet. */
+    static final double HIGH_COUNT = 2.0;
+    /** Bet ratio between high and low counts at which the spread signal saturates. */
+    static final double SATURATING_SPREAD = 8.0;
+
+    private final RunningCorrelation betVsCount = new RunningCorrelation();
+    private final RunningCorrelation stiffStandVsCount = new RunningCorrelation();
+    private double highCountBets;
+    private long highCountHands;
+    private double lowCountBets;
+    private long lowCountHands;
+
+    void recordBet(double bet, double trueCount) {
+        betVsCount.add(trueCount, bet);
+        if (trueCount >= HIGH_COUNT) {
+            highCountBets += bet;
+            highCountHands++;
+        } else if (trueCount <= 0) {
+            lowCountBets += bet;
+            lowCountHands++;
+        }
+    }
+
+    void recordDecision(int playerTotal, Decision decision, double trueCount) {
+        // Standing on 12-16 is the classic count-dependent play: counters stand more as the count rises
+        if (playerTotal >= 12 && playerTotal <= 16 && (decision == Decision.HIT || decision == Decision.STAND)) {
+            stiffStandVsCount.add(trueCount, decision == Decision.STAND ? 1 : 0);
+        }
+    }
+
+    long getHands() {
+        return betVsCount.getCount();
+    }
+
+    double getBetCorrelation() {
+        return betVsCount.getCorrelation();
+    }
+
+    double getStiffStandCorrelation() {
+        return stiffStandVsCount.getCorrelation();
+    }
+
+    /**
+     * @return average bet at high counts divided by average bet at low counts, or 1 if unknown
+     */
+    double getBetSpread() {
+        if (highCountHands == 0 || lowCountHands == 0 || lowCountBets <= 0) {
+            return 1;
+        }
+        return (highCountBets / highCountHands) / (lowCountBets / lowCountHands);
+    }
+
+    /**
+     * Combines the signals into a score between 0 and 1.
+     */
+    double score(long minHands) {
+        if (getHands() < minHands) {
+            return 0;
+        }
+        double spread = clamp((getBetSpread() - 1) / (SATURATING_SPREAD - 1));
+        return 0.5 * clamp(getBetCorrelation()) + 0.3 * spread + 0.2 * clamp(getStiffStandCorrelation());
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+}
@@ -0,0 +1,39 @@
+package com.mshah972.blackjack.analytics;
+
+/**
+ * Constant-memory Pearson correlation between two streams, updated one pair at a time
+ * with Welford's method so it stays numerically stable over long sessions.
+ */
+final class RunningCorrelation {
+    private long count;
+    private double meanX;
+    private double meanY;
+    private double m2X;
+    private double m2Y;
+    private double coMoment;
+
+    void add(double x, double y) {
+        count++;
+        double dx = x - meanX;
+        meanX += dx / count;
+        double dy = y - meanY;
+        meanY += dy / count;
+        m2X += dx * (x - meanX);
+        m2Y += dy * (y - meanY);
+        coMoment += dx * (y - meanY);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the correlation coefficient, or 0 while either stream has no variance
+     */
+    double getCorrelation() {
+        if (m2X <= 0 || m2Y <= 0) {
+            return 0;
+        }
+        return coMoment / Math.sqrt(m2X * m2Y);
+    }
+}
@@ -0,0 +1,30 @@
+package com.mshah972.blackjack.analytics;
+
+/**
+ * A player and their current advantage-play score, as reported by {@link AdvantagePlayDetector}.
+ */
+public final class Suspect {
+    private final String playerId;
+    private final double score;
+
+    Suspect(String playerId, double score) {
+        this.playerId = playerId;
+        this.score = score;
+    }
+
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * @return the suspicion score between 0 and 1
+     */
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%.3f)", playerId, score);
+    }
+}
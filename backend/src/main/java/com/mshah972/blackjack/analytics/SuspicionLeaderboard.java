@@ -0,0 +1,60 @@
+package com.mshah972.blackjack.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded top-K of the highest suspicion scores.
+ * <p>
+ * Scores that cannot enter a full board are rejected without locking. A member whose
+ * score drops keeps its place until a higher score displaces it, so the board is an
+ * approximation that favours recent high scores, as usual for streaming top-K.
+ */
+final class SuspicionLeaderboard {
+    private static final Comparator<Suspect> ORDER = Comparator.comparingDouble(Suspect::getScore)
+            .thenComparing(Suspect::getPlayerId);
+
+    private final int capacity;
+    private final Map<String, Suspect> members = new ConcurrentHashMap<>();
+    private final TreeSet<Suspect> ranked = new TreeSet<>(ORDER);
+    private volatile double admissionScore = Double.NEGATIVE_INFINITY;
+
+    SuspicionLeaderboard(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Leaderboard capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    void offer(String playerId, double score) {
+        if (score <= admissionScore && !members.containsKey(playerId)) {
+            return;
+        }
+        synchronized (this) {
+            Suspect previous = members.remove(playerId);
+            if (previous != null) {
+                ranked.remove(previous);
+            } else if (ranked.size() >= capacity && score <= ranked.first().getScore()) {
+                return;
+            }
+            Suspect suspect = new Suspect(playerId, score);
+            ranked.add(suspect);
+            members.put(playerId, suspect);
+            if (ranked.size() > capacity) {
+                members.remove(ranked.pollFirst().getPlayerId());
+            }
+            admissionScore = ranked.size() >= capacity ? ranked.first().getScore() : Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    /**
+     * @return the members, highest score first
+     */
+    synchronized List<Suspect> snapshot() {
+        return new ArrayList<>(ranked.descendingSet());
+    }
+}
@@ -0,0 +1,56 @@
+package com.mshah972.blackjack.audit;
+
+import com.mshah972.blackjack.model.Card;
+
+/**
+ * Streaming, mergeable statistics over shuffled 52-card permutations: how often each card
+ * lands in each position, how often each ordered pair of cards is adjacent, and the number
+ * of ascending runs per permutation. Memory use is fixed regardless of the number of trials.
+ */
+public final class ShuffleAccumulator {
+    static final int N = Card.DISTINCT_CARDS;
+
+    final long[] positionCounts = new long[N * N];
+    final long[] pairCounts = new long[N * N];
+    long trials;
+    long runsSum;
+    long runsSquares;
+
+    /**
+     * Records one permutation.
+     *
+     * @param ids card ids in dealing order, a permutation of 0..51
+     */
+    void record(int[] ids) {
+        int runs = 1;
+        for (int position = 0; position < N; position++) {
+            positionCounts[position * N + ids[position]]++;
+            if (position > 0) {
+                pairCounts[ids[position - 1] * N + ids[position]]++;
+                if (ids[position] < ids[position - 1]) {
+                    runs++;
+                }
+            }
+        }
+        trials++;
+        runsSum += runs;
+        runsSquares += (long) runs * runs;
+    }
+
+    /**
+     * Adds another accumulator's counts to this one.
+     *
+     * @param other partial results
+     * @return this accumulator
+     */
+    ShuffleAccumulator merge(ShuffleAccumulator other) {
+        for (int i = 0; i < positionCounts.length; i++) {
+            positionCounts[i] += other.positionCounts[i];
+            pairCounts[i] += other.pairCounts[i];
+        }
+        trials += other.trials;
+        runsSum += other.runsSum;
+        runsSquares += other.runsSquares;
+        return this;
+    }
+}
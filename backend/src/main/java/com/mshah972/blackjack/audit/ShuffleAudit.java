@@ -0,0 +1,324 @@
+package com.mshah972.blackjack.audit;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.Deck;
+import com.mshah972.blackjack.util.ShuffleUtil;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join audit of the engine's shuffles: {@link Deck#shuffle()} ({@code Collections.shuffle})
+ * and the Fisher–Yates in {@link ShuffleUtil}. Runs many independently seeded single-deck
+ * shuffles in parallel and tests the results for uniformity with:
+ * <ul>
+ *   <li>a chi-square test of card-by-position counts,</li>
+ *   <li>a chi-square test of ordered adjacent-pair counts,</li>
+ *   <li>a z-test of the number of ascending runs per permutation (mean 26.5, variance 53/12).</li>
+ * </ul>
+ * The cell counts within a trial are dependent, so neither Pearson statistic follows the textbook
+ * chi-square distribution. Each trial adds a permutation matrix to the position counts, which makes
+ * the position statistic asymptotically {@code N/(N-1)} times chi-square with {@code (N-1)^2}
+ * degrees of freedom; it is rescaled by {@code (N-1)/N} before testing. For adjacent pairs the
+ * reference distribution is a scaled chi-square whose mean and variance match the ones implied by
+ * the exact covariance of the pair indicators (see {@link #pairReference()}).
+ * Chi-square p-values use the Wilson–Hilferty normal approximation, which is accurate at these
+ * degrees of freedom. A test fails when its p-value is below {@value #ALPHA}.
+ * <p>
+ * Usage: {@code ShuffleAudit [--impl deck|shuffleutil|both] [--trials 1000000000] [--seed 1]
+ * [--parallelism N] [--report shuffle-audit.txt]}
+ */
+public class ShuffleAudit {
+    private static final double ALPHA = 1e-3;
+    private static final int N = ShuffleAccumulator.N;
+    private static final long TRIALS_PER_LEAF = 1 << 18;
+
+    /**
+     * The shuffle implementations under audit.
+     */
+    enum Implementation {
+        DECK {
+            @Override
+            Shuffler newShuffler(long seed) {
+                Deck deck = new Deck(1, 0.25, new Random(seed), null);
+                return ids -> {
+                    deck.shuffle();
+                    List<Card> cards = deck.getCards();
+                    for (int i = 0; i < N; i++) {
+                        ids[i] = cards.get(i).getId();
+                    }
+                };
+            }
+        },
+        SHUFFLE_UTIL {
+            @Override
+            Shuffler newShuffler(long seed) {
+                Random random = new Random(seed);
+                List<Card> cards = new ArrayList<>(N);
+                for (int id = 0; id < N; id++) {
+                    cards.add(Card.fromId(id));
+                }
+                return ids -> {
+                    ShuffleUtil.shuffle(cards, random);
+                    for (int i = 0; i < N; i++) {
+                        ids[i] = cards.get(i).getId();
+                    }
+                };
+            }
+        };
+
+        abstract Shuffler newShuffler(long seed);
+    }
+
+    interface Shuffler {
+        /** Shuffles and writes the resulting card ids in order. */
+        void next(int[] ids);
+    }
+
+    /**
+     * Shuffles a range of trial indices, splitting until a range fits one leaf.
+     * Each leaf seeds its own generator from the audit seed, its first trial index and
+     * the implementation, so results do not depend on the parallelism.
+     */
+    static final class AuditTask extends RecursiveTask<ShuffleAccumulator> {
+        private static final long serialVersionUID = 1L;
+
+        private final Implementation implementation;
+        private final long seed;
+        private final long from;
+        private final long to;
+
+        AuditTask(Implementation implementation, long seed, long from, long to) {
+            this.implementation = implementation;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ShuffleAccumulator compute() {
+            if (to - from <= TRIALS_PER_LEAF) {
+                ShuffleAccumulator accumulator = new ShuffleAccumulator();
+                // Offset by implementation so the two audits draw independent streams
+                long leafSeed = new SplittableRandom(seed ^ from).nextLong() + implementation.ordinal();
+                Shuffler shuffler = implementation.newShuffler(leafSeed);
+                int[] ids = new int[N];
+                for (long trial = from; trial < to; trial++) {
+                    shuffler.next(ids);
+                    accumulator.record(ids);
+                }
+                return accumulator;
+            }
+            long mid = from + (to - from) / 2;
+            AuditTask left = new AuditTask(implementation, seed, from, mid);
+            left.fork();
+            ShuffleAccumulator right = new AuditTask(implementation, seed, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Runs the audit for one implementation.
+     *
+     * @param pool the pool to run on
+     * @param implementation the shuffle to audit
+     * @param trials number of shuffles
+     * @param seed audit seed
+     * @return the accumulated statistics
+     */
+    static ShuffleAccumulator audit(ForkJoinPool pool, Implementation implementation, long trials, long seed) {
+        return pool.invoke(new AuditTask(implementation, seed, 0, trials));
+    }
+
+    /**
+     * Writes the test results for one implementation.
+     *
+     * @param out destination
+     * @param implementation the audited shuffle
+     * @param acc its statistics
+     * @param seconds wall-clock time taken
+     * @return true if every test passed
+     */
+    static boolean report(PrintWriter out, Implementation implementation, ShuffleAccumulator acc, double seconds) {
+        double expected = acc.trials / (double) N;
+
+        double positionChi = 0;
+        double worstResidual = 0;
+        int worstCell = 0;
+        for (int cell = 0; cell < N * N; cell++) {
+            double diff = acc.positionCounts[cell] - expected;
+            positionChi += diff * diff / expected;
+            double residual = Math.abs(diff) / Math.sqrt(expected);
+            if (residual > worstResidual) {
+                worstResidual = residual;
+                worstCell = cell;
+            }
+        }
+        // Under H0 the raw statistic is N/(N-1) * chi2((N-1)^2)
+        positionChi *= (N - 1) / (double) N;
+        int positionDf = (N - 1) * (N - 1);
+
+        double pairChi = 0;
+        for (int first = 0; first < N; first++) {
+            for (int second = 0; second < N; second++) {
+                if (first != second) {
+                    double diff = acc.pairCounts[first * N + second] - expected;
+                    pairChi += diff * diff / expected;
+                }
+            }
+        }
+        double[] pairReference = pairReference();
+        double pairScale = pairReference[0];
+        double pairDf = pairReference[1];
+
+        double runsMean = acc.runsSum / (double) acc.trials;
+        double runsVariance = (acc.runsSquares - acc.trials * runsMean * runsMean) / (acc.trials - 1);
+        double runsZ = (runsMean - (N + 1) / 2.0) / Math.sqrt((N + 1) / 12.0 / acc.trials);
+        double runsP = 2 * upperNormalTail(Math.abs(runsZ));
+
+        double positionP = chiSquareUpperTail(positionChi, positionDf);
+        double pairP = chiSquareUpperTail(pairChi / pairScale, pairDf);
+        boolean pass = positionP >= ALPHA && pairP >= ALPHA && runsP >= ALPHA;
+
+        out.printf("== %s: %,d shuffles in %.1fs (%,.0f/s)%n", implementation, acc.trials, seconds, acc.trials / seconds);
+        out.printf("position x card   chi2=%.1f df=%d p=%.4g %s  (worst: %s at position %d, %.2f sigma)%n",
+                positionChi, positionDf, positionP, verdict(positionP),
+                Card.fromId(worstCell % N), worstCell / N, worstResidual);
+        out.printf("adjacent pairs    chi2=%.1f ~ %.4f x chi2(df=%.1f) p=%.4g %s%n",
+                pairChi, pairScale, pairDf, pairP, verdict(pairP));
+        out.printf("ascending runs    mean=%.6f (expected %.1f) variance=%.5f (expected %.5f) z=%.3f p=%.4g %s%n",
+                runsMean, (N + 1) / 2.0, runsVariance, (N + 1) / 12.0, runsZ, runsP, verdict(runsP));
+        out.printf("overall           %s%n%n", pass ? "PASS" : "FAIL");
+        return pass;
+    }
+
+    private static String verdict(double p) {
+        return p >= ALPHA ? "ok" : "BIASED";
+    }
+
+    /**
+     * Reference distribution {@code c * chi2(df)} for the adjacent-pair Pearson statistic.
+     * <p>
+     * Per trial, X_ab is 1 if card a is immediately followed by card b, with p = 1/N. For a
+     * uniform permutation, Var(X_ab) = p(1-p). Two different cells that cannot both hold, i.e.
+     * sharing a first card, sharing a second card, or being each other's reverse, have covariance
+     * -p^2. Every other pair of cells, whether disjoint or chained like ab and bc, holds together
+     * with probability 1/(N(N-1)), giving covariance 1/(N(N-1)) - p^2. With expected count T/N, the
+     * statistic's asymptotic mean is {@code N * tr(S)} and its variance {@code 2 N^2 tr(S^2)}, where
+     * S is that covariance matrix; the scaled chi-square with the same two moments
+     * (Satterthwaite) is used as the reference. For N = 52 that is about 1.019 x chi2(2552),
+     * with mean (N-1)^2 = 2601.
+     *
+     * @return {@code {c, df}}
+     */
+    static double[] pairReference() {
+        double p = 1.0 / N;
+        double cells = N * (N - 1.0);
+        double variance = p * (1 - p);
+        int exclusive = 2 * (N - 2) + 1;
+        double joint = 1.0 / (N * (N - 1.0)) - p * p;
+        double traceS = cells * variance;
+        double traceS2 = cells * (variance * variance
+                + exclusive * p * p * p * p
+                + (cells - 1 - exclusive) * joint * joint);
+        double mean = N * traceS;
+        double var = 2.0 * N * N * traceS2;
+        return new double[] {var / (2 * mean), 2 * mean * mean / var};
+    }
+
+    /**
+     * Upper tail of the chi-square distribution via the Wilson–Hilferty transformation.
+     */
+    static double chiSquareUpperTail(double chi, double df) {
+        double k = 2.0 / (9.0 * df);
+        double z = (Math.cbrt(chi / df) - (1 - k)) / Math.sqrt(k);
+        return upperNormalTail(z);
+    }
+
+    /**
+     * Upper tail of the standard normal distribution, from a Chebyshev fit of erfc
+     * with fractional error below 1.2e-7.
+     */
+    static double upperNormalTail(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.5 * x);
+        double erfc = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        double tail = erfc / 2;
+        return z >= 0 ? tail : 1 - tail;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String impl = "both";
+        long trials = 100_000_000L;
+        long seed = 1;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        String reportPath = "shuffle-audit.txt";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--impl":
+                    impl = args[++i];
+                    break;
+                case "--trials":
+                    trials = Long.parseLong(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--parallelism":
+                    parallelism = Integer.parseInt(args[++i]);
+                    break;
+                case "--report":
+                    reportPath = args[++i];
+                    break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        List<Implementation> implementations = new ArrayList<>();
+        if (!"shuffleutil".equals(impl)) {
+            implementations.add(Implementation.DECK);
+        }
+        if (!"deck".equals(impl)) {
+            implementations.add(Implementation.SHUFFLE_UTIL);
+        }
+
+        StringBuilder report = new StringBuilder(String.format(
+                "Shuffle fairness audit: %,d shuffles per implementation, seed %d, parallelism %d, alpha %s%n%n",
+                trials, seed, parallelism, ALPHA));
+        System.out.print(report);
+        boolean pass = true;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Implementation implementation : implementations) {
+                long start = System.nanoTime();
+                ShuffleAccumulator acc = audit(pool, implementation, trials, seed);
+                StringWriter section = new StringWriter();
+                try (PrintWriter out = new PrintWriter(section)) {
+                    pass &= report(out, implementation, acc, (System.nanoTime() - start) / 1e9);
+                }
+                System.out.print(section);
+                report.append(section);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Files.write(Paths.get(reportPath), report.toString().getBytes(StandardCharsets.UTF_8));
+        System.out.println("Report written to " + reportPath);
+        if (!pass) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.mshah972.blackjack.corpus;
+
+import com.mshah972.blackjack.model.Card;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+/**
+ * A memory-mapped file of pre-shuffled shoes, stored as packed card ids (one byte per card).
+ * <p>
+ * Dealing every strategy or rule variant from the same corpus slots gives common random
+ * numbers: the variants see identical card sequences, so differences in their results
+ * come from the variants rather than from the shuffle.
+ * <p>
+ * Layout: a {@value #HEADER_SIZE}-byte header (magic, version, decks per shoe, shoe count, seed)
+ * followed by fixed-size slots of {@code decksPerShoe * 52} bytes, first card dealt first.
+ * Large corpora are mapped in several segments, each holding a whole number of slots.
+ */
+public class ShoeCorpus implements Closeable {
+    private static final int MAGIC = 0x424A5343; // "BJSC"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+    /** Far above any real shoe; keeps shoe sizes and segment arithmetic well inside int range. */
+    static final int MAX_DECKS_PER_SHOE = 1024;
+
+    private final FileChannel channel;
+    private final int decksPerShoe;
+    private final int shoeSize;
+    private final long shoeCount;
+    private final long seed;
+    private final long slotsPerSegment;
+    private final MappedByteBuffer[] segments;
+
+    private ShoeCorpus(FileChannel channel, FileChannel.MapMode mode, int decksPerShoe, long shoeCount, long seed)
+            throws IOException {
+        this.channel = channel;
+        this.decksPerShoe = decksPerShoe;
+        this.shoeSize = decksPerShoe * Card.DISTINCT_CARDS;
+        this.shoeCount = shoeCount;
+        this.seed = seed;
+        this.slotsPerSegment = MAX_SEGMENT_BYTES / shoeSize;
+        int segmentCount = (int) ((shoeCount + slotsPerSegment - 1) / slotsPerSegment);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long firstSlot = i * slotsPerSegment;
+            long slots = Math.min(slotsPerSegment, shoeCount - firstSlot);
+            segments[i] = channel.map(mode, HEADER_SIZE + firstSlot * shoeSize, slots * shoeSize);
+        }
+    }
+
+    /**
+     * Writes a new corpus of independently shuffled shoes, generating them in parallel.
+     * Shoe {@code i} depends only on {@code seed} and {@code i}, so the same arguments
+     * always produce the same file.
+     *
+     * @param file the corpus file to create or overwrite
+     * @param decksPerShoe number of decks in each shoe, at most {@value #MAX_DECKS_PER_SHOE}
+     * @param shoeCount number of shoes to generate
+     * @param seed base seed
+     * @return the corpus, open for reading
+     * @throws IOException if the file cannot be written
+     */
+    public static ShoeCorpus create(Path file, int decksPerShoe, long shoeCount, long seed) throws IOException {
+        if (decksPerShoe < 1 || shoeCount < 1) {
+            throw new IllegalArgumentException("Corpus needs at least one deck and one shoe");
+        }
+        if (decksPerShoe > MAX_DECKS_PER_SHOE) {
+            throw new IllegalArgumentException("At most " + MAX_DECKS_PER_SHOE + " decks per shoe: " + decksPerShoe);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(decksPerShoe).putInt(0).putLong(shoeCount).putLong(seed).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        ShoeCorpus corpus = new ShoeCorpus(channel, FileChannel.MapMode.READ_WRITE, decksPerShoe, shoeCount, seed);
+        LongStream.range(0, shoeCount).parallel().forEach(corpus::generateSlot);
+        for (MappedByteBuffer segment : corpus.segments) {
+            segment.force();
+        }
+        return corpus;
+    }
+
+    /**
+     * Opens an existing corpus read-only.
+     *
+     * @param file the corpus file
+     * @return the corpus
+     * @throws IOException if the file cannot be read or is not a corpus
+     */
+    public static ShoeCorpus open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // keep reading until the header is complete or the file ends
+        }
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION) {
+            channel.close();
+            throw new IOException("Not a shoe corpus: " + file);
+        }
+        int decksPerShoe = header.getInt();
+        header.getInt();
+        long shoeCount = header.getLong();
+        long seed = header.getLong();
+        if (decksPerShoe < 1 || decksPerShoe > MAX_DECKS_PER_SHOE || shoeCount < 1) {
+            channel.close();
+            throw new IOException("Not a shoe corpus: " + file);
+        }
+        long expectedSize;
+        try {
+            expectedSize = Math.addExact(HEADER_SIZE,
+                    Math.multiplyExact(shoeCount, (long) decksPerShoe * Card.DISTINCT_CARDS));
+        } catch (ArithmeticException e) {
+            // No file can be that large; the shoe count is corrupt
+            channel.close();
+            throw new IOException("Not a shoe corpus: " + file);
+        }
+        if (channel.size() < expectedSize) {
+            channel.close();
+            throw new IOException("Truncated shoe corpus: " + file);
+        }
+        return new ShoeCorpus(channel, FileChannel.MapMode.READ_ONLY, decksPerShoe, shoeCount, seed);
+    }
+
+    private void generateSlot(long slot) {
+        byte[] shoe = new byte[shoeSize];
+        for (int i = 0; i < shoeSize; i++) {
+            shoe[i] = (byte) (i % Card.DISTINCT_CARDS);
+        }
+        // Fisher–Yates with a generator derived from the base seed and the slot index
+        SplittableRandom random = new SplittableRandom(seed ^ (slot * 0x9E3779B97F4A7C15L));
+        for (int i = shoeSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = shoe[i];
+            shoe[i] = shoe[j];
+            shoe[j] = tmp;
+        }
+        ByteBuffer target = segmentFor(slot);
+        target.position(offsetInSegment(slot));
+        target.put(shoe);
+    }
+
+    /**
+     * Copies the packed card ids of one shoe into {@code dest}, first card dealt first.
+     *
+     * @param slot index of the shoe, between 0 and {@link #getShoeCount()} - 1
+     * @param dest array of at least {@link #getShoeSize()} bytes
+     */
+    public void readShoe(long slot, byte[] dest) {
+        if (slot < 0 || slot >= shoeCount) {
+            throw new IndexOutOfBoundsException("Shoe slot " + slot + " outside corpus of " + shoeCount);
+        }
+        ByteBuffer source = segmentFor(slot);
+        source.position(offsetInSegment(slot));
+        source.get(dest, 0, shoeSize);
+    }
+
+    private ByteBuffer segmentFor(long slot) {
+        // Duplicates share the mapping but have their own position, so threads can read concurrently
+        return segments[(int) (slot / slotsPerSegment)].duplicate();
+    }
+
+    private int offsetInSegment(long slot) {
+        return (int) (slot % slotsPerSegment) * shoeSize;
+    }
+
+    public int getDecksPerShoe() {
+        return decksPerShoe;
+    }
+
+    /**
+     * Returns the number of cards in each shoe.
+     */
+    public int getShoeSize() {
+        return shoeSize;
+    }
+
+    public long getShoeCount() {
+        return shoeCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
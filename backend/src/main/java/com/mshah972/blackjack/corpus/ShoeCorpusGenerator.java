@@ -0,0 +1,31 @@
+package com.mshah972.blackjack.corpus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command-line tool that writes a {@link ShoeCorpus} file.
+ * <p>
+ * Usage: {@code ShoeCorpusGenerator <file> <shoes> [decksPerShoe=6] [seed=1]}
+ */
+public class ShoeCorpusGenerator {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ShoeCorpusGenerator <file> <shoes> [decksPerShoe=6] [seed=1]");
+            System.exit(2);
+        }
+        Path file = Paths.get(args[0]);
+        long shoes = Long.parseLong(args[1]);
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+
+        long start = System.nanoTime();
+        try (ShoeCorpus corpus = ShoeCorpus.create(file, decks, shoes, seed)) {
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Wrote %d shoes of %d decks (%d MB) to %s in %.1fs%n",
+                    corpus.getShoeCount(), corpus.getDecksPerShoe(),
+                    corpus.getShoeCount() * corpus.getShoeSize() >> 20, file, seconds);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.mshah972.blackjack.json;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.GameSnapshot;
+import com.mshah972.blackjack.model.GameState;
+import com.mshah972.blackjack.model.Hand;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streaming JSON encoder for game state, writing UTF-8 straight into a reusable byte buffer.
+ * <p>
+ * The 52 card objects and the phase fields are encoded once up front and copied in as
+ * byte fragments; numbers are written digit by digit. No reflection is used and no
+ * intermediate strings are built. Output looks like:
+ * <pre>
+ * {"phase":"PLAYER_TURN",
+ *  "player":{"cards":[{"rank":"ACE","suit":"SPADES","value":1}, ...],"value":21,"blackjack":true,"bust":false},
+ *  "dealer":{...},"shoeSize":48,"trueCount":0.52}
+ * </pre>
+ * Not thread-safe; keep one writer per thread and call {@link #reset()} between responses.
+ */
+public class GameStateJsonWriter {
+    private static final byte[][] CARDS = new byte[Card.DISTINCT_CARDS][];
+    private static final byte[][] PHASES = new byte[GameState.Phase.values().length][];
+    private static final byte[] HAND = ascii("{\"cards\":[");
+    private static final byte[] PLAYER = ascii(",\"player\":{\"cards\":[");
+    private static final byte[] DEALER = ascii(",\"dealer\":{\"cards\":[");
+    private static final byte[] VALUE = ascii("],\"value\":");
+    private static final byte[] BLACKJACK_TRUE = ascii(",\"blackjack\":true");
+    private static final byte[] BLACKJACK_FALSE = ascii(",\"blackjack\":false");
+    private static final byte[] BUST_TRUE = ascii(",\"bust\":true}");
+    private static final byte[] BUST_FALSE = ascii(",\"bust\":false}");
+    private static final byte[] SHOE_SIZE = ascii(",\"shoeSize\":");
+    private static final byte[] TRUE_COUNT = ascii(",\"trueCount\":");
+    private static final byte[] VERSION = ascii(",\"version\":");
+
+    static {
+        for (int id = 0; id < Card.DISTINCT_CARDS; id++) {
+            Card card = Card.fromId(id);
+            CARDS[id] = ascii("{\"rank\":\"" + card.getRank() + "\",\"suit\":\"" + card.getSuit()
+                    + "\",\"value\":" + card.getValue() + "}");
+        }
+        for (GameState.Phase phase : GameState.Phase.values()) {
+            PHASES[phase.ordinal()] = ascii("{\"phase\":\"" + phase + "\"");
+        }
+    }
+
+    private byte[] buffer;
+    private int length;
+
+    /**
+     * Creates a writer with a buffer sized for a typical single-table response.
+     */
+    public GameStateJsonWriter() {
+        this(512);
+    }
+
+    /**
+     * @param initialCapacity initial buffer size in bytes; the buffer grows as needed
+     */
+    public GameStateJsonWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    private static byte[] ascii(String fragment) {
+        return fragment.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Discards the written bytes, keeping the buffer for reuse.
+     *
+     * @return this writer
+     */
+    public GameStateJsonWriter reset() {
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Writes a game state and the current true count as one JSON object.
+     *
+     * @param state the game state
+     * @param trueCount the true count from the card counting service
+     * @return this writer
+     */
+    public GameStateJsonWriter writeGameState(GameState state, double trueCount) {
+        write(PHASES[state.getPhase().ordinal()]);
+        write(PLAYER);
+        writeHandBody(state.getPlayerHand());
+        write(DEALER);
+        writeHandBody(state.getDealerHand());
+        write(SHOE_SIZE);
+        writeInt(state.getDeck().size());
+        write(TRUE_COUNT);
+        writeHundredths(trueCount);
+        writeByte('}');
+        return this;
+    }
+
+    /**
+     * Writes a published snapshot as one JSON object, including its version.
+     *
+     * @param snapshot the snapshot
+     * @return this writer
+     */
+    public GameStateJsonWriter writeSnapshot(GameSnapshot snapshot) {
+        write(PHASES[snapshot.getPhase().ordinal()]);
+        write(VERSION);
+        writeLong(snapshot.getVersion());
+        write(PLAYER);
+        for (int i = 0; i < snapshot.getPlayerCardCount(); i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            write(CARDS[snapshot.getPlayerCard(i).getId()]);
+        }
+        writeHandSummary(snapshot.getPlayerValue(), snapshot.getPlayerCardCount());
+        write(DEALER);
+        for (int i = 0; i < snapshot.getDealerCardCount(); i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            write(CARDS[snapshot.getDealerCard(i).getId()]);
+        }
+        writeHandSummary(snapshot.getDealerValue(), snapshot.getDealerCardCount());
+        write(SHOE_SIZE);
+        writeInt(snapshot.getShoeSize());
+        write(TRUE_COUNT);
+        writeHundredths(snapshot.getTrueCount());
+        writeByte('}');
+        return this;
+    }
+
+    /**
+     * Writes a hand as a JSON object with its cards, value, blackjack and bust flags.
+     *
+     * @param hand the hand
+     * @return this writer
+     */
+    public GameStateJsonWriter writeHand(Hand hand) {
+        write(HAND);
+        writeHandBody(hand);
+        return this;
+    }
+
+    /**
+     * Writes a single card as a JSON object.
+     *
+     * @param card the card
+     * @return this writer
+     */
+    public GameStateJsonWriter writeCard(Card card) {
+        write(CARDS[card.getId()]);
+        return this;
+    }
+
+    private void writeHandBody(Hand hand) {
+        List<Card> cards = hand.getCards();
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            write(CARDS[cards.get(i).getId()]);
+        }
+        writeHandSummary(hand.getValue(), cards.size());
+    }
+
+    private void writeHandSummary(int value, int cardCount) {
+        write(VALUE);
+        writeInt(value);
+        write(cardCount == 2 && value == 21 ? BLACKJACK_TRUE : BLACKJACK_FALSE);
+        write(value > 21 ? BUST_TRUE : BUST_FALSE);
+    }
+
+    /**
+     * Returns the internal buffer; only the first {@link #length()} bytes are valid.
+     *
+     * @return the buffer
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    /**
+     * @return the number of bytes written since the last reset
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return a copy of the written bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Copies the written bytes to the given stream.
+     *
+     * @param out the destination
+     * @throws IOException if the stream fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, length);
+    }
+
+    private void write(byte[] fragment) {
+        ensureCapacity(fragment.length);
+        System.arraycopy(fragment, 0, buffer, length, fragment.length);
+        length += fragment.length;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[length++] = (byte) b;
+    }
+
+    private void writeInt(int value) {
+        writeLong(value);
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[length++] = '-';
+        }
+        int start = length;
+        // Digits are taken from the value as is, since -Long.MIN_VALUE would overflow
+        do {
+            buffer[length++] = (byte) ('0' + Math.abs(value % 10));
+            value /= 10;
+        } while (value != 0);
+        // Digits were written least significant first
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte tmp = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = tmp;
+        }
+    }
+
+    private void writeHundredths(double value) {
+        long scaled = Math.round(value * 100);
+        if (scaled < 0) {
+            writeByte('-');
+        }
+        // Split before taking the magnitude so Long.MIN_VALUE cannot overflow
+        writeLong(Math.abs(scaled / 100));
+        long cents = Math.abs(scaled % 100);
+        ensureCapacity(3);
+        buffer[length++] = '.';
+        buffer[length++] = (byte) ('0' + cents / 10);
+        buffer[length++] = (byte) ('0' + cents % 10);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
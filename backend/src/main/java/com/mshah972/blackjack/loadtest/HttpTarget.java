@@ -0,0 +1,72 @@
+package com.mshah972.blackjack.loadtest;
+
+import com.mshah972.blackjack.model.GameState;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Drives a local HTTP endpoint. Each action is sent as
+ * {@code POST <baseUrl>/sessions/<sessionId>/<action>} with the action in lower case,
+ * and the response body must contain the resulting phase as {@code "phase":"<PHASE>"}.
+ */
+public class HttpTarget implements LoadTarget {
+    private static final String PHASE_FIELD = "\"phase\":\"";
+
+    private final String baseUrl;
+    private final HttpClient client;
+
+    /**
+     * @param baseUrl base URL of the game API, e.g. {@code http://localhost:8080/api}
+     */
+    public HttpTarget(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public Session openSession(int playerId) {
+        String sessionUrl = baseUrl + "/sessions/load-" + playerId + "-" + System.nanoTime() + "/";
+        return action -> {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(sessionUrl + action.name().toLowerCase(Locale.ROOT)))
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            HttpResponse<String> response;
+            try {
+                response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted", e);
+            }
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("HTTP " + response.statusCode() + " for " + action);
+            }
+            return parsePhase(response.body());
+        };
+    }
+
+    private static GameState.Phase parsePhase(String body) throws IOException {
+        int start = body.indexOf(PHASE_FIELD);
+        if (start < 0) {
+            throw new IOException("Response has no phase: " + body);
+        }
+        start += PHASE_FIELD.length();
+        int end = body.indexOf('"', start);
+        if (end < 0) {
+            throw new IOException("Malformed phase in response: " + body);
+        }
+        return GameState.Phase.valueOf(body.substring(start, end));
+    }
+
+    @Override
+    public String toString() {
+        return baseUrl;
+    }
+}
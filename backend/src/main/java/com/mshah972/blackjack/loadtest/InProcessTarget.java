@@ -0,0 +1,49 @@
+package com.mshah972.blackjack.loadtest;
+
+import com.mshah972.blackjack.model.GameState;
+import com.mshah972.blackjack.service.GameService;
+
+/**
+ * Drives one {@link GameService} per simulated player inside this JVM.
+ */
+public class InProcessTarget implements LoadTarget {
+
+    @Override
+    public Session openSession(int playerId) {
+        GameService service = new GameService();
+        return action -> {
+            switch (action) {
+                case START:
+                    // Keep startGame() from prompting on stdin for a reshuffle
+                    if (service.getGameState().getDeck().size() <= 12) {
+                        service.getGameState().getDeck().reset();
+                    }
+                    service.startGame();
+                    break;
+                case HIT:
+                    service.playerHit();
+                    break;
+                case STAND:
+                    service.playerStand();
+                    break;
+                case DOUBLE:
+                    service.doubleDown();
+                    break;
+                case SURRENDER:
+                    service.surrender();
+                    break;
+                case DEALER:
+                    service.dealerTurn();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown action: " + action);
+            }
+            return service.getGameState().getPhase();
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "in-process";
+    }
+}
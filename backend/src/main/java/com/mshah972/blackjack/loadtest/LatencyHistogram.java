@@ -0,0 +1,94 @@
+package com.mshah972.blackjack.loadtest;
+
+/**
+ * Fixed-memory latency histogram in the style of HdrHistogram: values are grouped
+ * into power-of-two ranges, each split into {@value #SUB_BUCKETS} linear sub-buckets,
+ * giving under 1% relative error from 1 ns up to {@code Long.MAX_VALUE}.
+ * <p>
+ * Not thread-safe; each worker records into its own histogram and they are merged afterwards.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int RANGES = 64 - SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[RANGES * SUB_BUCKETS];
+    private long totalCount;
+    private long max;
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanos latency in nanoseconds; negative values are clamped to zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        totalCount++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Adds all recordings of another histogram to this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        max = Math.max(max, other.max);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the value at the given percentile, accurate to the bucket resolution.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max);
+            }
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // Range r >= 1 covers [2^(r+6), 2^(r+7)) in SUB_BUCKETS steps of 2^(r-1)
+        int range = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> (range - 1)) - SUB_BUCKETS;
+        return range * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueIn(int index) {
+        int range = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        if (range == 0) {
+            return subBucket;
+        }
+        long step = 1L << (range - 1);
+        return (subBucket + (long) SUB_BUCKETS) * step + step - 1;
+    }
+}
@@ -0,0 +1,267 @@
+package com.mshah972.blackjack.loadtest;
+
+import com.mshah972.blackjack.model.GameState;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic load generator: drives N simulated players through complete rounds
+ * concurrently, with exponentially distributed think time between actions, and
+ * reports throughput and latency percentiles per player count.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -cp blackjack-core.jar com.mshah972.blackjack.loadtest.LoadGenerator \
+ *     [--players 1,8,64,512] [--duration 30] [--warmup 5] [--think-ms 250] [--target http://localhost:8080/api]
+ * </pre>
+ * Without {@code --target} the in-process engine is used and its console output is suppressed.
+ * Several player counts run one after another so the point where throughput stops scaling is visible.
+ */
+public class LoadGenerator {
+    /** Relative weights of hit, stand, double and surrender on a player's first decision. */
+    private static final int[] FIRST_DECISION_WEIGHTS = {45, 40, 10, 5};
+    private static final PlayerAction[] DECISIONS = {
+            PlayerAction.HIT, PlayerAction.STAND, PlayerAction.DOUBLE, PlayerAction.SURRENDER
+    };
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadTarget target;
+    private final long thinkNanos;
+    private volatile boolean measuring;
+    private volatile boolean running;
+
+    /**
+     * @param target the engine or endpoint to drive
+     * @param thinkMillis mean think time between a player's actions
+     */
+    public LoadGenerator(LoadTarget target, long thinkMillis) {
+        this.target = target;
+        this.thinkNanos = TimeUnit.MILLISECONDS.toNanos(thinkMillis);
+    }
+
+    /**
+     * Results of one run at a fixed number of players.
+     */
+    public static class Result {
+        final int players;
+        final double seconds;
+        final long rounds;
+        final long errors;
+        final LatencyHistogram overall = new LatencyHistogram();
+        final Map<PlayerAction, LatencyHistogram> byAction = new EnumMap<>(PlayerAction.class);
+
+        Result(int players, double seconds, long rounds, long errors) {
+            this.players = players;
+            this.seconds = seconds;
+            this.rounds = rounds;
+            this.errors = errors;
+        }
+
+        void print(PrintStream out) {
+            out.printf("players=%d actions/s=%.1f rounds/s=%.1f errors=%d%n",
+                    players, overall.getTotalCount() / seconds, rounds / seconds, errors);
+            printLine(out, "all", overall);
+            for (Map.Entry<PlayerAction, LatencyHistogram> entry : byAction.entrySet()) {
+                printLine(out, entry.getKey().name().toLowerCase(), entry.getValue());
+            }
+        }
+
+        private static void printLine(PrintStream out, String label, LatencyHistogram histogram) {
+            StringBuilder line = new StringBuilder(String.format("  %-9s n=%-9d", label, histogram.getTotalCount()));
+            for (double p : PERCENTILES) {
+                line.append(String.format(" p%s=%.1fus", p % 1 == 0 ? String.valueOf((int) p) : String.valueOf(p),
+                        histogram.getValueAtPercentile(p) / 1e3));
+            }
+            line.append(String.format(" max=%.1fus", histogram.getMax() / 1e3));
+            out.println(line);
+        }
+    }
+
+    private final class Player implements Runnable {
+        final int id;
+        final SplittableRandom random;
+        final LatencyHistogram overall = new LatencyHistogram();
+        final Map<PlayerAction, LatencyHistogram> byAction = new EnumMap<>(PlayerAction.class);
+        long rounds;
+        long errors;
+
+        Player(int id, long seed) {
+            this.id = id;
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public void run() {
+            try {
+                LoadTarget.Session session = target.openSession(id);
+                while (running) {
+                    playRound(session);
+                }
+            } catch (InterruptedException e) {
+                // Stopped at the end of the run
+            } catch (IOException e) {
+                errors++;
+            }
+        }
+
+        private void playRound(LoadTarget.Session session) throws InterruptedException {
+            try {
+                GameState.Phase phase = timed(session, PlayerAction.START);
+                boolean firstDecision = true;
+                while (phase == GameState.Phase.PLAYER_TURN && running) {
+                    think();
+                    phase = timed(session, nextDecision(firstDecision));
+                    firstDecision = false;
+                }
+                while (phase == GameState.Phase.DEALER_TURN && running) {
+                    phase = timed(session, PlayerAction.DEALER);
+                }
+                if (measuring && phase == GameState.Phase.FINISHED) {
+                    rounds++;
+                }
+                think();
+            } catch (IOException | RuntimeException e) {
+                if (measuring) {
+                    errors++;
+                }
+            }
+        }
+
+        private PlayerAction nextDecision(boolean firstDecision) {
+            // Double and surrender are only legal on the first two cards
+            int options = firstDecision ? DECISIONS.length : 2;
+            int total = 0;
+            for (int i = 0; i < options; i++) {
+                total += FIRST_DECISION_WEIGHTS[i];
+            }
+            int pick = random.nextInt(total);
+            for (int i = 0; i < options; i++) {
+                pick -= FIRST_DECISION_WEIGHTS[i];
+                if (pick < 0) {
+                    return DECISIONS[i];
+                }
+            }
+            return PlayerAction.STAND;
+        }
+
+        private GameState.Phase timed(LoadTarget.Session session, PlayerAction action) throws IOException {
+            long start = System.nanoTime();
+            GameState.Phase phase = session.perform(action);
+            long elapsed = System.nanoTime() - start;
+            if (measuring) {
+                overall.record(elapsed);
+                byAction.computeIfAbsent(action, a -> new LatencyHistogram()).record(elapsed);
+            }
+            return phase;
+        }
+
+        private void think() throws InterruptedException {
+            if (thinkNanos <= 0) {
+                return;
+            }
+            long pause = (long) (-Math.log(1.0 - random.nextDouble()) * thinkNanos);
+            TimeUnit.NANOSECONDS.sleep(pause);
+        }
+    }
+
+    /**
+     * Runs the given number of players for the warm-up period and then the measured period.
+     *
+     * @param players number of concurrent simulated players
+     * @param warmupSeconds unmeasured ramp-up time
+     * @param durationSeconds measured time
+     * @return the aggregated result
+     * @throws InterruptedException if interrupted while waiting for players
+     */
+    public Result run(int players, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        SplittableRandom seeds = new SplittableRandom(players);
+        List<Player> workers = new ArrayList<>(players);
+        List<Thread> threads = new ArrayList<>(players);
+        running = true;
+        measuring = false;
+        for (int i = 0; i < players; i++) {
+            Player player = new Player(i, seeds.nextLong());
+            Thread thread = new Thread(player, "load-player-" + i);
+            thread.setDaemon(true);
+            workers.add(player);
+            threads.add(thread);
+            thread.start();
+        }
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        measuring = true;
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        measuring = false;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        running = false;
+        for (Thread thread : threads) {
+            thread.interrupt();
+            thread.join();
+        }
+
+        long rounds = 0;
+        long errors = 0;
+        for (Player player : workers) {
+            rounds += player.rounds;
+            errors += player.errors;
+        }
+        Result result = new Result(players, seconds, rounds, errors);
+        for (Player player : workers) {
+            result.overall.add(player.overall);
+            for (Map.Entry<PlayerAction, LatencyHistogram> entry : player.byAction.entrySet()) {
+                result.byAction.computeIfAbsent(entry.getKey(), a -> new LatencyHistogram()).add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String players = "1,4,16,64";
+        int duration = 30;
+        int warmup = 5;
+        long thinkMillis = 250;
+        String url = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--players":
+                    players = args[++i];
+                    break;
+                case "--duration":
+                    duration = Integer.parseInt(args[++i]);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(args[++i]);
+                    break;
+                case "--think-ms":
+                    thinkMillis = Long.parseLong(args[++i]);
+                    break;
+                case "--target":
+                    url = args[++i];
+                    break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        LoadTarget target = url == null ? new InProcessTarget() : new HttpTarget(url);
+        PrintStream out = System.out;
+        if (url == null) {
+            // The engine logs every card to stdout; even a PrintStream over a null stream would
+            // serialize the players on its monitor, so install one that never locks
+            System.setOut(new DiscardingPrintStream());
+        }
+        out.printf("Target %s, think time %d ms, %ds warm-up, %ds measured%n", target, thinkMillis, warmup, duration);
+        LoadGenerator generator = new LoadGenerator(target, thinkMillis);
+        for (String count : players.split(",")) {
+            generator.run(Integer.parseInt(count.trim()), warmup, duration).print(out);
+        }
+        System.setOut(out);
+    }
+}
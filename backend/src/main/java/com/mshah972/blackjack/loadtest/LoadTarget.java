@@ -0,0 +1,34 @@
+package com.mshah972.blackjack.loadtest;
+
+import com.mshah972.blackjack.model.GameState;
+import java.io.IOException;
+
+/**
+ * Something the load generator can drive: the in-process engine or a remote endpoint.
+ */
+public interface LoadTarget {
+
+    /**
+     * Opens a new table for one simulated player.
+     *
+     * @param playerId index of the simulated player
+     * @return the session
+     * @throws IOException if the session cannot be created
+     */
+    Session openSession(int playerId) throws IOException;
+
+    /**
+     * One simulated player's table.
+     */
+    interface Session {
+
+        /**
+         * Performs the action and returns the resulting phase of the round.
+         *
+         * @param action the action to perform
+         * @return the phase after the action
+         * @throws IOException if the target fails
+         */
+        GameState.Phase perform(PlayerAction action) throws IOException;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mshah972.blackjack.loadtest;
+
+/**
+ * Player actions issued by the load generator.
+ */
+public enum PlayerAction {
+    START,
+    HIT,
+    STAND,
+    DOUBLE,
+    SURRENDER,
+    DEALER
+}
@@ -10,6 +10,22 @@ import java.util.Objects;
  */
 
 public class Card {
+    /** Number of distinct cards in a standard deck. */
+    public static final int DISTINCT_CARDS = 52;
+
+    private static final int RANK_COUNT = Rank.values().length;
+
+    private static final Card[] BY_ID = new Card[DISTINCT_CARDS];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                Card card = new Card(suit, rank);
+                BY_ID[card.getId()] = card;
+            }
+        }
+    }
+
     private final Suit suit;
     private final Rank rank;
 
@@ -42,6 +58,31 @@ public class Card {
         return rank;
     }
 
+    /**
+     * Retrieves the compact identifier of this card, in the range 0–51.
+     * The identifier is {@code suit.ordinal() * 13 + rank.ordinal()} and is
+     * stable, so it can be used to pack cards into bytes.
+     *
+     * @return the card identifier
+     */
+    public int getId() {
+        return suit.ordinal() * RANK_COUNT + rank.ordinal();
+    }
+
+    /**
+     * Returns the shared card instance for the given compact identifier.
+     *
+     * @param id the card identifier, as returned by {@link #getId()}
+     * @return the card with that identifier
+     * @throws IllegalArgumentException if the identifier is out of range
+     */
+    public static Card fromId(int id) {
+        if (id < 0 || id >= DISTINCT_CARDS) {
+            throw new IllegalArgumentException("Invalid card id: " + id);
+        }
+        return BY_ID[id];
+    }
+
     /**
      * Retrieves the numeric value associated with the rank of this card.
      * Number cards return their face value (e.g., TWO returns 2, THREE returns 3, etc.),
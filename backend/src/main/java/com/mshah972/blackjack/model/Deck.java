@@ -1,10 +1,16 @@
 package com.mshah972.blackjack.model;
 
+import com.mshah972.blackjack.corpus.ShoeCorpus;
 import com.mshah972.blackjack.util.ShuffleUtil;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Collections;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Represents a deck of playing cards. The deck can be shuffled, reset,
@@ -18,8 +24,13 @@ import java.util.Random;
 
 public class Deck {
     private final int numberOfDecks;
-    private final List<Card> cards;
+    private List<Card> cards;
     private final Random random;
+    private final ShoeCorpus corpus;
+    private long nextCorpusSlot;
+    private final Executor shoePreparer;
+    private CompletableFuture<List<Card>> nextShoe;
+    private long nextShoeSeed;
 
     /**
      * Default constructor: single deck with 25% penetration threshold.
@@ -34,19 +45,81 @@ public class Deck {
      * @param reshuffleThreshold fraction of penetration before reshuffling (e.g., 0.25)
      */
     public Deck(int numberOfDecks, double reshuffleThreshold) {
+        this(numberOfDecks, reshuffleThreshold, new Random(), null);
+    }
+
+    /**
+     * Constructs a shoe that can prepare its next shoe in the background.
+     * With a {@code shoePreparer}, the replacement shoe is built and shuffled on that
+     * executor while the current one is dealt, so a reset only swaps in the ready shoe.
+     * Each prepared shoe is shuffled with a seed drawn from {@code random} on the dealing
+     * thread, so a seeded {@code random} still gives a reproducible sequence of shoes.
+     *
+     * @param numberOfDecks count of decks in the shoe
+     * @param reshuffleThreshold fraction of penetration before reshuffling (e.g., 0.25)
+     * @param random source of randomness for shuffling
+     * @param shoePreparer executor for background shoe preparation, or {@code null} to reshuffle inline
+     */
+    public Deck(int numberOfDecks, double reshuffleThreshold, Random random, Executor shoePreparer) {
         this.numberOfDecks = numberOfDecks;
         this.cards = new ArrayList<>();
+        this.random = random;
+        this.corpus = null;
+        this.shoePreparer = shoePreparer;
+        if (shoePreparer != null) {
+            this.nextShoeSeed = random.nextLong();
+        }
+        reset();
+    }
+
+    /**
+     * Constructs a shoe that deals pre-shuffled shoes from a corpus instead of shuffling.
+     * The first shoe comes from {@code firstSlot}; each reset moves to the next slot,
+     * wrapping around at the end of the corpus. Decks built on the same corpus and slot
+     * deal identical card sequences.
+     *
+     * @param corpus the pre-shuffled shoe corpus
+     * @param firstSlot index of the first shoe to deal
+     */
+    public Deck(ShoeCorpus corpus, long firstSlot) {
+        this.numberOfDecks = corpus.getDecksPerShoe();
+        this.cards = new ArrayList<>(corpus.getShoeSize());
         this.random = new Random();
+        this.corpus = corpus;
+        this.nextCorpusSlot = Math.floorMod(firstSlot, corpus.getShoeCount());
+        this.shoePreparer = null;
         reset();
     }
 
+    /**
+     * Restores a shoe with the given remaining cards, e.g. when rehydrating a saved session.
+     * The last card in the list is the next one to be dealt.
+     *
+     * @param numberOfDecks count of decks in the shoe
+     * @param remaining the cards left in the shoe, in dealing order
+     */
+    public Deck(int numberOfDecks, List<Card> remaining) {
+        this.numberOfDecks = numberOfDecks;
+        this.cards = new ArrayList<>(remaining);
+        this.random = new Random();
+        this.corpus = null;
+        this.shoePreparer = null;
+    }
+
     /**
      * Randomizes the order of the cards in the deck.
      * This method modifies the existing list of cards to rearrange
      * them in a randomly determined order.
      * It makes use of a utility function from {@code ShuffleUtil} to shuffle the cards.
+     * A corpus-backed deck deals the corpus's next shoe instead, so its card sequence
+     * stays reproducible.
      */
     public void shuffle() {
+        if (corpus != null) {
+            cards.clear();
+            loadCorpusShoe();
+            return;
+        }
         Collections.shuffle(cards, random);
     }
 
@@ -76,10 +149,19 @@ public class Deck {
      * This method clears all existing cards from the deck and repopulates it with
      * all possible combinations of suits and ranks, representing a standard deck
      * of playing cards. Afterward, the deck is shuffled to randomize the order
-     * of the cards.
+     * of the cards. A corpus-backed deck loads its next pre-shuffled shoe instead,
+     * and a deck with a background preparer swaps in its already shuffled next shoe.
      */
     public void reset() {
+        if (shoePreparer != null) {
+            swapInPreparedShoe();
+            return;
+        }
         cards.clear();
+        if (corpus != null) {
+            loadCorpusShoe();
+            return;
+        }
         for (int d = 0; d < numberOfDecks; d++) {
             for (Suit suit : Suit.values()) {
                 for (Rank rank : Rank.values()) {
@@ -90,6 +172,51 @@ public class Deck {
         shuffle();
     }
 
+    private void swapInPreparedShoe() {
+        List<Card> next = null;
+        if (nextShoe != null) {
+            try {
+                next = nextShoe.join();
+            } catch (CompletionException | CancellationException e) {
+                System.out.println("Background shoe preparation failed, shuffling inline: " + e);
+            }
+        }
+        if (next == null) {
+            // Same seed the background task was given, so the sequence of shoes stays reproducible
+            next = buildShuffledShoe(numberOfDecks, nextShoeSeed);
+        }
+        cards = next;
+        nextShoeSeed = random.nextLong();
+        long seed = nextShoeSeed;
+        try {
+            nextShoe = CompletableFuture.supplyAsync(() -> buildShuffledShoe(numberOfDecks, seed), shoePreparer);
+        } catch (RejectedExecutionException e) {
+            System.out.println("Background shoe preparation rejected, next shoe will be shuffled inline: " + e);
+            nextShoe = null;
+        }
+    }
+
+    private static List<Card> buildShuffledShoe(int numberOfDecks, long seed) {
+        List<Card> shoe = new ArrayList<>(numberOfDecks * Card.DISTINCT_CARDS);
+        for (int d = 0; d < numberOfDecks; d++) {
+            for (int id = 0; id < Card.DISTINCT_CARDS; id++) {
+                shoe.add(Card.fromId(id));
+            }
+        }
+        Collections.shuffle(shoe, new Random(seed));
+        return shoe;
+    }
+
+    private void loadCorpusShoe() {
+        byte[] shoe = new byte[corpus.getShoeSize()];
+        corpus.readShoe(nextCorpusSlot, shoe);
+        nextCorpusSlot = (nextCorpusSlot + 1) % corpus.getShoeCount();
+        // Cards are drawn from the end of the list, so the first card of the slot goes last
+        for (int i = shoe.length - 1; i >= 0; i--) {
+            cards.add(Card.fromId(shoe[i]));
+        }
+    }
+
     /**
      * Returns the number of cards currently present in the deck.
      *
@@ -99,6 +226,15 @@ public class Deck {
         return cards.size();
     }
 
+    /**
+     * Returns the number of decks this shoe is built from.
+     *
+     * @return the number of decks
+     */
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
     /**
      * Retrieves the top card of the deck without removing it. The top
      * card is the card at the last position in the internal list of cards.
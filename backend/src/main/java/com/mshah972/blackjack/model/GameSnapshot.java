@@ -0,0 +1,159 @@
+package com.mshah972.blackjack.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, compact view of a table at a single point in time.
+ * Cards are stored as packed identifiers (see {@link Card#getId()}), so a
+ * snapshot can be shared freely between threads without copying or locking.
+ */
+public final class GameSnapshot {
+    private final long version;
+    private final GameState.Phase phase;
+    private final byte[] playerCards;
+    private final byte[] dealerCards;
+    private final int playerValue;
+    private final int dealerValue;
+    private final int shoeSize;
+    private final double trueCount;
+
+    private GameSnapshot(long version, GameState.Phase phase, byte[] playerCards, byte[] dealerCards,
+                         int playerValue, int dealerValue, int shoeSize, double trueCount) {
+        this.version = version;
+        this.phase = phase;
+        this.playerCards = playerCards;
+        this.dealerCards = dealerCards;
+        this.playerValue = playerValue;
+        this.dealerValue = dealerValue;
+        this.shoeSize = shoeSize;
+        this.trueCount = trueCount;
+    }
+
+    /**
+     * Captures the given game state. Must be called from the thread that owns the state.
+     *
+     * @param state     the live game state
+     * @param trueCount the current true count
+     * @param version   monotonically increasing version of the table
+     * @return a new snapshot
+     */
+    public static GameSnapshot of(GameState state, double trueCount, long version) {
+        Hand player = state.getPlayerHand();
+        Hand dealer = state.getDealerHand();
+        return new GameSnapshot(version, state.getPhase(), pack(player), pack(dealer),
+                player.getValue(), dealer.getValue(), state.getDeck().size(), trueCount);
+    }
+
+    /**
+     * Builds a snapshot from already packed fields, e.g. when decoding a stream.
+     * The arrays are copied.
+     *
+     * @param version     table version
+     * @param phase       game phase
+     * @param playerCards packed player card identifiers
+     * @param dealerCards packed dealer card identifiers
+     * @param playerValue player hand value
+     * @param dealerValue dealer hand value
+     * @param shoeSize    cards remaining in the shoe
+     * @param trueCount   current true count
+     * @return a new snapshot
+     */
+    public static GameSnapshot of(long version, GameState.Phase phase, byte[] playerCards, byte[] dealerCards,
+                                  int playerValue, int dealerValue, int shoeSize, double trueCount) {
+        return new GameSnapshot(version, phase, playerCards.clone(), dealerCards.clone(),
+                playerValue, dealerValue, shoeSize, trueCount);
+    }
+
+    private static byte[] pack(Hand hand) {
+        List<Card> cards = hand.getCards();
+        byte[] ids = new byte[cards.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = (byte) cards.get(i).getId();
+        }
+        return ids;
+    }
+
+    private static List<Card> unpack(byte[] ids) {
+        List<Card> cards = new ArrayList<>(ids.length);
+        for (byte id : ids) {
+            cards.add(Card.fromId(id));
+        }
+        return Collections.unmodifiableList(cards);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public GameState.Phase getPhase() {
+        return phase;
+    }
+
+    public int getPlayerCardCount() {
+        return playerCards.length;
+    }
+
+    /**
+     * Returns the player's card at the given position without allocating.
+     *
+     * @param index position in the hand
+     * @return the card
+     */
+    public Card getPlayerCard(int index) {
+        return Card.fromId(playerCards[index]);
+    }
+
+    public List<Card> getPlayerCards() {
+        return unpack(playerCards);
+    }
+
+    public int getDealerCardCount() {
+        return dealerCards.length;
+    }
+
+    /**
+     * Returns the dealer's card at the given position without allocating.
+     *
+     * @param index position in the hand
+     * @return the card
+     */
+    public Card getDealerCard(int index) {
+        return Card.fromId(dealerCards[index]);
+    }
+
+    public List<Card> getDealerCards() {
+        return unpack(dealerCards);
+    }
+
+    public int getPlayerValue() {
+        return playerValue;
+    }
+
+    public int getDealerValue() {
+        return dealerValue;
+    }
+
+    public int getShoeSize() {
+        return shoeSize;
+    }
+
+    public double getTrueCount() {
+        return trueCount;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot{" +
+                "version=" + version +
+                ", phase=" + phase +
+                ", playerCards=" + getPlayerCards() +
+                ", playerValue=" + playerValue +
+                ", dealerCards=" + getDealerCards() +
+                ", dealerValue=" + dealerValue +
+                ", shoeSize=" + shoeSize +
+                ", trueCount=" + trueCount +
+                '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.mshah972.blackjack.model;
 
 import com.mshah972.blackjack.model.Deck;
 import com.mshah972.blackjack.model.Hand;
+import java.util.function.Supplier;
 
 /**
  * Represents the current state of a Blackjack game,
@@ -16,6 +17,7 @@ public class GameState {
         FINISHED
     }
 
+    private final Supplier<Deck> deckFactory;
     private Deck deck;
     private Hand playerHand;
     private Hand dealerHand;
@@ -25,15 +27,42 @@ public class GameState {
      * Constructs a new game state and deals initial hands.
      */
     public GameState() {
+        this(Deck::new);
+    }
+
+    /**
+     * Constructs a new game state whose shoes come from the given factory, e.g. a
+     * multi-deck {@link Deck} that prepares its next shoe in the background.
+     *
+     * @param deckFactory creates the shoe on every {@link #reset()}
+     */
+    public GameState(Supplier<Deck> deckFactory) {
+        this.deckFactory = deckFactory;
         reset();
     }
 
+    /**
+     * Restores a game state from previously saved parts.
+     *
+     * @param deck the shoe
+     * @param playerHand the player's hand
+     * @param dealerHand the dealer's hand
+     * @param phase the current phase
+     */
+    public GameState(Deck deck, Hand playerHand, Hand dealerHand, Phase phase) {
+        this.deckFactory = Deck::new;
+        this.deck = deck;
+        this.playerHand = playerHand;
+        this.dealerHand = dealerHand;
+        this.phase = phase;
+    }
+
     /**
      * Initializes or resets the game to its starting state:
      * shuffles a new deck, deals two cards each, and sets phase to PLAYER_TURN.
      */
     public void reset() {
-        deck = new Deck();
+        deck = deckFactory.get();
         playerHand = new Hand();
         dealerHand = new Hand();
         phase = Phase.PLAYER_TURN;
@@ -0,0 +1,59 @@
+package com.mshah972.blackjack.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the remote session store: one file per session in a directory.
+ * Files are replaced atomically so a crash never leaves a half-written session.
+ */
+public class FileSessionBackend implements SessionBackend {
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final String EXTENSION = ".session";
+
+    private final Path directory;
+
+    /**
+     * @param directory directory holding the session files; created if missing
+     * @throws IOException if the directory cannot be created
+     */
+    public FileSessionBackend(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public byte[] load(String sessionId) throws IOException {
+        try {
+            return Files.readAllBytes(pathFor(sessionId));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void storeAll(Map<String, byte[]> sessions) throws IOException {
+        for (Map.Entry<String, byte[]> entry : sessions.entrySet()) {
+            Path target = pathFor(entry.getKey());
+            Path temp = Files.createTempFile(directory, entry.getKey(), ".tmp");
+            Files.write(temp, entry.getValue());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    @Override
+    public void delete(String sessionId) throws IOException {
+        Files.deleteIfExists(pathFor(sessionId));
+    }
+
+    private Path pathFor(String sessionId) {
+        if (!VALID_ID.matcher(sessionId).matches()) {
+            throw new IllegalArgumentException("Invalid session id: " + sessionId);
+        }
+        return directory.resolve(sessionId + EXTENSION);
+    }
+}
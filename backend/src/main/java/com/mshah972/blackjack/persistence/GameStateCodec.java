@@ -0,0 +1,93 @@
+package com.mshah972.blackjack.persistence;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.Deck;
+import com.mshah972.blackjack.model.GameState;
+import com.mshah972.blackjack.model.Hand;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes a {@link GameState} into a compact binary form and back.
+ * Cards are written as their one-byte identifiers (see {@link Card#getId()}).
+ */
+public final class GameStateCodec {
+    private static final int FORMAT_VERSION = 1;
+
+    private GameStateCodec() {
+    }
+
+    /**
+     * Serializes the given game state.
+     *
+     * @param state the state to encode
+     * @return the encoded bytes
+     */
+    public static byte[] encode(GameState state) {
+        Deck deck = state.getDeck();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + deck.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(state.getPhase().ordinal());
+            out.writeShort(deck.getNumberOfDecks());
+            writeCards(out, deck.getCards());
+            writeCards(out, state.getPlayerHand().getCards());
+            writeCards(out, state.getDealerHand().getCards());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores a game state from bytes produced by {@link #encode(GameState)}.
+     *
+     * @param data the encoded bytes
+     * @return the decoded state
+     * @throws IllegalArgumentException if the data is not a valid encoding
+     */
+    public static GameState decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported game state format: " + version);
+            }
+            GameState.Phase phase = GameState.Phase.values()[in.readUnsignedByte()];
+            int numberOfDecks = in.readUnsignedShort();
+            Deck deck = new Deck(numberOfDecks, readCards(in));
+            Hand player = new Hand();
+            for (Card card : readCards(in)) {
+                player.addCard(card);
+            }
+            Hand dealer = new Hand();
+            for (Card card : readCards(in)) {
+                dealer.addCard(card);
+            }
+            return new GameState(deck, player, dealer, phase);
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt game state", e);
+        }
+    }
+
+    private static void writeCards(DataOutputStream out, List<Card> cards) throws IOException {
+        out.writeShort(cards.size());
+        for (Card card : cards) {
+            out.writeByte(card.getId());
+        }
+    }
+
+    private static List<Card> readCards(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(Card.fromId(in.readUnsignedByte()));
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,36 @@
+package com.mshah972.blackjack.persistence;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Durable storage for encoded game sessions, e.g. Firestore in production
+ * or {@link FileSessionBackend} locally.
+ */
+public interface SessionBackend {
+
+    /**
+     * Loads the encoded session with the given id.
+     *
+     * @param sessionId the session id
+     * @return the stored bytes, or {@code null} if the session does not exist
+     * @throws IOException if the backend cannot be read
+     */
+    byte[] load(String sessionId) throws IOException;
+
+    /**
+     * Writes a batch of sessions in one round trip where the backend supports it.
+     *
+     * @param sessions encoded sessions keyed by session id
+     * @throws IOException if the batch could not be written
+     */
+    void storeAll(Map<String, byte[]> sessions) throws IOException;
+
+    /**
+     * Removes the session with the given id, if present.
+     *
+     * @param sessionId the session id
+     * @throws IOException if the backend cannot be written
+     */
+    void delete(String sessionId) throws IOException;
+}
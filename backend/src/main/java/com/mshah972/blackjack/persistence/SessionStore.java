@@ -0,0 +1,280 @@
+package com.mshah972.blackjack.persistence;
+
+import com.mshah972.blackjack.model.GameState;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind cache of active game sessions in front of a {@link SessionBackend}.
+ * <p>
+ * Sessions stay in a bounded LRU map and are evicted when the cache is full or
+ * they have been idle too long. Callers report changes with {@link #markDirty(String, GameState)};
+ * the latest encoding of each dirty session is kept and written to the backend
+ * in one batch per flush interval, so many actions on the same table cost a
+ * single remote write. Evicted sessions are rehydrated on the next access.
+ * <p>
+ * A removed session is marked until its backend delete has run after any batch
+ * already in flight, so neither that batch nor a retry after a failed flush can
+ * bring it back.
+ */
+public class SessionStore implements AutoCloseable {
+    private final SessionBackend backend;
+    private final long idleTimeoutMillis;
+    private final LinkedHashMap<String, CachedSession> cache;
+    private Map<String, byte[]> dirty = new HashMap<>();
+    private Map<String, byte[]> inFlight = Collections.emptyMap();
+    private final Set<String> removing = new HashSet<>();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher;
+
+    private static final class CachedSession {
+        final GameState state;
+        long lastAccess;
+
+        CachedSession(GameState state, long lastAccess) {
+            this.state = state;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * @param backend durable storage for sessions
+     * @param maxSessions maximum number of sessions kept in memory
+     * @param idleTimeoutMillis sessions not accessed for this long are evicted
+     * @param flushIntervalMillis how often dirty sessions are written back
+     */
+    public SessionStore(SessionBackend backend, int maxSessions, long idleTimeoutMillis, long flushIntervalMillis) {
+        this.backend = backend;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.cache = new LinkedHashMap<String, CachedSession>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSession> eldest) {
+                return size() > maxSessions;
+            }
+        };
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "session-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the session with the given id, loading it from the backend if it is not cached.
+     *
+     * @param sessionId the session id
+     * @return the live game state, or {@code null} if the session does not exist
+     * @throws UncheckedIOException if the backend cannot be read
+     */
+    public GameState get(String sessionId) {
+        byte[] pending;
+        synchronized (this) {
+            CachedSession entry = cache.get(sessionId);
+            if (entry != null) {
+                entry.lastAccess = System.currentTimeMillis();
+                return entry.state;
+            }
+            pending = dirty.get(sessionId);
+            if (pending == null && removing.contains(sessionId)) {
+                // Anything in flight or in the backend is about to be deleted
+                return null;
+            }
+            if (pending == null) {
+                pending = inFlight.get(sessionId);
+            }
+        }
+        byte[] data = pending;
+        if (data == null) {
+            try {
+                data = backend.load(sessionId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (data == null) {
+                return null;
+            }
+        }
+        GameState state = GameStateCodec.decode(data);
+        synchronized (this) {
+            // Another caller may have rehydrated the same session meanwhile
+            CachedSession existing = cache.get(sessionId);
+            if (existing != null) {
+                return existing.state;
+            }
+            if (pending == null && removing.contains(sessionId)) {
+                // Removed while it was being loaded
+                return null;
+            }
+            cache.put(sessionId, new CachedSession(state, System.currentTimeMillis()));
+        }
+        return state;
+    }
+
+    /**
+     * Adds or replaces a session and schedules it for write-back.
+     *
+     * @param sessionId the session id
+     * @param state the game state
+     */
+    public void put(String sessionId, GameState state) {
+        byte[] data = GameStateCodec.encode(state);
+        synchronized (this) {
+            cache.put(sessionId, new CachedSession(state, System.currentTimeMillis()));
+            dirty.put(sessionId, data);
+        }
+    }
+
+    /**
+     * Records that a session has changed. Only the latest state is written on the next flush.
+     * The state is always queued, even if the session was evicted after {@link #get(String)}
+     * handed it out; in that case it is cached again so the next access sees the change.
+     * Must be called by the thread that mutated the session, before it is mutated again.
+     *
+     * @param sessionId the session id
+     * @param state the session's current state, as returned by {@link #get(String)}
+     */
+    public void markDirty(String sessionId, GameState state) {
+        byte[] data = GameStateCodec.encode(state);
+        synchronized (this) {
+            CachedSession entry = cache.get(sessionId);
+            if (entry == null || entry.state != state) {
+                cache.put(sessionId, new CachedSession(state, System.currentTimeMillis()));
+            } else {
+                entry.lastAccess = System.currentTimeMillis();
+            }
+            dirty.put(sessionId, data);
+        }
+    }
+
+    /**
+     * Removes a session from the cache and the backend. The session is gone for
+     * {@link #get(String)} immediately; the backend delete waits for a flush in progress.
+     *
+     * @param sessionId the session id
+     * @throws UncheckedIOException if the backend cannot be written
+     */
+    public void remove(String sessionId) {
+        synchronized (this) {
+            cache.remove(sessionId);
+            dirty.remove(sessionId);
+            removing.add(sessionId);
+        }
+        synchronized (flushLock) {
+            try {
+                backend.delete(sessionId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                synchronized (this) {
+                    removing.remove(sessionId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sessions currently held in memory.
+     */
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * Writes all dirty sessions to the backend in a single batch.
+     * If the write fails the sessions stay dirty, unless they were changed again meanwhile.
+     *
+     * @throws IOException if the backend rejects the batch
+     */
+    public void flush() throws IOException {
+        synchronized (flushLock) {
+            Map<String, byte[]> batch;
+            synchronized (this) {
+                if (dirty.isEmpty()) {
+                    return;
+                }
+                batch = dirty;
+                dirty = new HashMap<>();
+                // A session recreated while its removal is pending is written after the delete
+                for (String sessionId : removing) {
+                    byte[] data = batch.remove(sessionId);
+                    if (data != null) {
+                        dirty.put(sessionId, data);
+                    }
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                inFlight = batch;
+            }
+            try {
+                backend.storeAll(batch);
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    for (Map.Entry<String, byte[]> entry : batch.entrySet()) {
+                        if (!removing.contains(entry.getKey())) {
+                            dirty.putIfAbsent(entry.getKey(), entry.getValue());
+                        }
+                    }
+                }
+                throw e;
+            } finally {
+                synchronized (this) {
+                    inFlight = Collections.emptyMap();
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts sessions that have not been accessed within the idle timeout.
+     * Their latest state remains queued for write-back.
+     */
+    public synchronized void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        Iterator<CachedSession> it = cache.values().iterator();
+        // Access order: the eldest entries come first
+        while (it.hasNext()) {
+            if (it.next().lastAccess >= cutoff) {
+                break;
+            }
+            it.remove();
+        }
+    }
+
+    private void scheduledFlush() {
+        evictIdle();
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Session flush failed, will retry: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the background flusher and writes any remaining dirty sessions.
+     *
+     * @throws IOException if the final flush fails
+     */
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
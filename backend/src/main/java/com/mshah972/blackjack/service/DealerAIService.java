@@ -3,28 +3,37 @@ package com.mshah972.blackjack.service;
 import com.mshah972.blackjack.model.GameState;
 import com.mshah972.blackjack.model.Hand;
 import com.mshah972.blackjack.model.Card;
-import com.mshah972.blackjack.model.Rank;
-import com.mshah972.blackjack.util.HandValueCalculator;
+import com.mshah972.blackjack.util.DealerTransitionTable;
 
 /**
  * Implements dealer decision logic following standard Blackjack house rules,
- * with optional handling of soft-17.
+ * with optional handling of soft-17. Decisions are looked up in a precomputed
+ * {@link DealerTransitionTable} for the configured rule.
  */
 public class DealerAIService {
-    private final boolean hitSoft17;
+    private final DealerTransitionTable table;
 
     /**
      * Default constructor: dealer stands on soft 17.
      */
     public DealerAIService() {
-        this.hitSoft17 = false;
+        this(false);
     }
 
     /**
      * @param hitSoft17 if true, dealer hits on soft 17; otherwise stands.
      */
     public DealerAIService(boolean hitSoft17) {
-        this.hitSoft17 = hitSoft17;
+        this.table = DealerTransitionTable.forRules(hitSoft17);
+    }
+
+    /**
+     * Returns the transition table for this dealer's rules.
+     *
+     * @return the dealer transition table
+     */
+    public DealerTransitionTable getTransitionTable() {
+        return table;
     }
 
     /**
@@ -34,14 +43,7 @@ public class DealerAIService {
      * @return true if dealer should hit, false to stand
      */
     public boolean shouldHit(Hand hand) {
-        int value = hand.getValue();
-        if (value < 17) {
-            return true;
-        }
-        if (value == 17 && hitSoft17 && isSoft17(hand)) {
-            return true;
-        }
-        return false;
+        return table.shouldHit(table.stateOf(hand.getCards()));
     }
 
     /**
@@ -51,28 +53,11 @@ public class DealerAIService {
      */
     public void playDealer(GameState state) {
         Hand dealerHand = state.getDealerHand();
-        while (shouldHit(dealerHand)) {
+        int dealerState = table.stateOf(dealerHand.getCards());
+        while (table.shouldHit(dealerState)) {
             Card card = state.getDeck().draw();
             dealerHand.addCard(card);
+            dealerState = table.next(dealerState, card.getValue());
         }
     }
-
-    /**
-     * Checks if the hand is a soft 17 (contains an Ace counted as 11).
-     *
-     * @param hand dealer's hand
-     * @return true if soft 17, false otherwise
-     */
-    private boolean isSoft17(Hand hand) {
-        // sum with all Aces as 1
-        int baseSum = hand.getCards().stream()
-                .mapToInt(Card::getValue)
-                .sum();
-        // count Aces
-        long aceCount = hand.getCards().stream()
-                .filter(c -> c.getRank() == Rank.ACE)
-                .count();
-        // if exactly one Ace can be counted as 11 to make 17, it's soft 17
-        return aceCount > 0 && baseSum + 10 == 17;
-    }
 }
@@ -1,25 +1,51 @@
 package com.mshah972.blackjack.service;
 
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import com.mshah972.blackjack.util.DealerTransitionTable;
 import com.mshah972.blackjack.util.HandValueCalculator; // if needed
 
 import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.Deck;
 import com.mshah972.blackjack.model.Hand;
+import com.mshah972.blackjack.model.GameSnapshot;
 import com.mshah972.blackjack.model.GameState;
 
 /**
  * Manages game flow: dealing, player actions, dealer AI, and card counting.
  */
 public class GameService {
+    private final Supplier<Deck> deckFactory;
     private GameState gameState;
     private final DealerAIService dealerAIService;
     private final CardCountingService cardCountingService;
+    private long snapshotVersion;
+    private volatile GameSnapshot snapshot;
+    private final List<Consumer<GameSnapshot>> snapshotListeners = new CopyOnWriteArrayList<>();
 
     public GameService() {
+        this(Deck::new);
+    }
+
+    /**
+     * Creates a game whose shoes come from the given factory. To keep reshuffles off the
+     * player's action, pass a factory for decks that prepare their next shoe in the background:
+     * <pre>
+     * new GameService(() -&gt; new Deck(6, 0.25, new Random(seed), shoePreparer))
+     * </pre>
+     *
+     * @param deckFactory creates the shoe for each new game state
+     */
+    public GameService(Supplier<Deck> deckFactory) {
+        this.deckFactory = deckFactory;
         this.dealerAIService = new DealerAIService();
         this.cardCountingService = new CardCountingService();
-        this.gameState = new GameState();
+        this.gameState = new GameState(deckFactory);
+        publishSnapshot();
     }
 
     /**
@@ -56,7 +82,7 @@ public class GameService {
         }
         // Initialize or clear hands
         if (gameState == null) {
-            gameState = new GameState();
+            gameState = new GameState(deckFactory);
         } else {
             gameState.getPlayerHand().clear();
             gameState.getDealerHand().clear();
@@ -80,6 +106,7 @@ public class GameService {
         if (gameState.getPlayerHand().isBlackjack() || gameState.getDealerHand().isBlackjack()) {
             gameState.setPhase(GameState.Phase.FINISHED);
         }
+        publishSnapshot();
     }
 
     /**
@@ -106,8 +133,8 @@ public class GameService {
             System.out.println("Player has "
                 + (gameState.getPlayerHand().isBust() ? "busted" : "Blackjack!") );
             gameState.setPhase(GameState.Phase.FINISHED);
-            return;
         }
+        publishSnapshot();
     }
 
     /**
@@ -116,6 +143,7 @@ public class GameService {
     public void playerStand() {
         if (gameState.getPhase() == GameState.Phase.PLAYER_TURN) {
             gameState.setPhase(GameState.Phase.DEALER_TURN);
+            publishSnapshot();
         }
     }
 
@@ -127,23 +155,28 @@ public class GameService {
             return;
         }
         Hand dealerHand = gameState.getDealerHand();
+        DealerTransitionTable table = dealerAIService.getTransitionTable();
+        int dealerState = table.stateOf(dealerHand.getCards());
         // Dealer draws until reaching at least 17
-        while (dealerAIService.shouldHit(dealerHand)) {
+        while (table.shouldHit(dealerState)) {
             System.out.println("Dealer draws a card...");
             Card card = gameState.getDeck().draw();
             dealerHand.addCard(card);
+            dealerState = table.next(dealerState, card.getValue());
             System.out.println("Dealer draws: " + card);
             cardCountingService.updateCount(card);
             // Check for bust immediately
-            if (dealerHand.isBust()) {
-                System.out.println("Dealer busted with value: " + dealerHand.getValue());
+            if (table.isBust(dealerState)) {
+                System.out.println("Dealer busted with value: " + table.total(dealerState));
                 gameState.setPhase(GameState.Phase.FINISHED);
+                publishSnapshot();
                 return;
             }
         }
         // Dealer stands if not busted
-        System.out.println("Dealer stands with value: " + dealerHand.getValue());
+        System.out.println("Dealer stands with value: " + table.total(dealerState));
         gameState.setPhase(GameState.Phase.FINISHED);
+        publishSnapshot();
     }
 
     /**
@@ -153,6 +186,25 @@ public class GameService {
         return gameState;
     }
 
+    /**
+     * Returns the most recently published immutable snapshot of the table.
+     * Safe to call from any thread at any rate; it never blocks the game thread.
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Registers a listener that is called on the game thread with every newly published snapshot,
+     * e.g. to feed a spectator stream. A listener that throws is reported and skipped for that
+     * snapshot; it cannot fail the table action or keep other listeners from being called.
+     *
+     * @param listener the listener to add
+     */
+    public void addSnapshotListener(Consumer<GameSnapshot> listener) {
+        snapshotListeners.add(listener);
+    }
+
     /**
      * Gets the current true count from the card counting service.
      */
@@ -166,6 +218,7 @@ public class GameService {
     public void shuffleDeck() {
         gameState.getDeck().shuffle();
         cardCountingService.reset();
+        publishSnapshot();
     }
 
     /**
@@ -187,6 +240,7 @@ public class GameService {
             System.out.println("Player busted after double down with value: " + gameState.getPlayerHand().getValue());
         }
         gameState.setPhase(GameState.Phase.FINISHED);
+        publishSnapshot();
     }
 
     /**
@@ -201,5 +255,21 @@ public class GameService {
         }
         System.out.println("Player surrenders. Half your bet is returned.");
         gameState.setPhase(GameState.Phase.FINISHED);
+        publishSnapshot();
+    }
+
+    /**
+     * Captures the current state into a new snapshot and publishes it through the volatile reference.
+     */
+    private void publishSnapshot() {
+        GameSnapshot published = GameSnapshot.of(gameState, cardCountingService.getTrueCount(), ++snapshotVersion);
+        snapshot = published;
+        for (Consumer<GameSnapshot> listener : snapshotListeners) {
+            try {
+                listener.accept(published);
+            } catch (RuntimeException e) {
+                System.err.println("Snapshot listener failed on version " + published.getVersion() + ": " + e);
+            }
+        }
     }
 }
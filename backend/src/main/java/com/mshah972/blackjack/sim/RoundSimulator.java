@@ -0,0 +1,114 @@
+package com.mshah972.blackjack.sim;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.util.DealerTransitionTable;
+import java.util.SplittableRandom;
+
+/**
+ * Plays the rounds of one shard on a packed shoe of card values.
+ * The player follows a fixed hit-until-threshold strategy; the dealer is played
+ * with a {@link DealerTransitionTable}. Blackjack pays 3:2.
+ */
+public class RoundSimulator {
+    private final SimulationShard shard;
+    private final DealerTransitionTable table;
+    private final SplittableRandom random;
+    private final int[] shoe;
+    private final int cutCard;
+    private int position;
+
+    /**
+     * @param shard the shard to simulate
+     */
+    public RoundSimulator(SimulationShard shard) {
+        this.shard = shard;
+        this.table = DealerTransitionTable.forRules(shard.isHitSoft17());
+        this.random = new SplittableRandom(shard.getSeed());
+        this.shoe = new int[shard.getNumberOfDecks() * Card.DISTINCT_CARDS];
+        for (int i = 0; i < shoe.length; i++) {
+            shoe[i] = Card.fromId(i % Card.DISTINCT_CARDS).getValue();
+        }
+        this.cutCard = (int) (shoe.length * shard.getPenetration());
+        shuffle();
+    }
+
+    /**
+     * Plays every round of the shard.
+     *
+     * @return the shard's results
+     */
+    public SimulationStats run() {
+        SimulationStats stats = new SimulationStats();
+        for (long round = 0; round < shard.getRounds(); round++) {
+            if (position >= cutCard) {
+                shuffle();
+            }
+            playRound(stats);
+        }
+        return stats;
+    }
+
+    private void playRound(SimulationStats stats) {
+        int player = table.next(DealerTransitionTable.START, nextCard());
+        int dealer = table.next(DealerTransitionTable.START, nextCard());
+        player = table.next(player, nextCard());
+        dealer = table.next(dealer, nextCard());
+
+        boolean playerBlackjack = table.total(player) == 21;
+        boolean dealerBlackjack = table.total(dealer) == 21;
+        if (playerBlackjack || dealerBlackjack) {
+            if (playerBlackjack) {
+                stats.recordPlayerBlackjack();
+            }
+            if (playerBlackjack && dealerBlackjack) {
+                stats.recordPush();
+            } else if (playerBlackjack) {
+                stats.recordPlayerWin(1.5);
+            } else {
+                stats.recordDealerWin();
+            }
+            return;
+        }
+
+        while (table.total(player) < shard.getPlayerStandsOn()) {
+            player = table.next(player, nextCard());
+        }
+        if (table.isBust(player)) {
+            stats.recordPlayerBust();
+            stats.recordDealerWin();
+            return;
+        }
+
+        dealer = table.playOut(dealer, this::nextCard);
+        int playerTotal = table.total(player);
+        int dealerTotal = table.total(dealer);
+        if (table.isBust(dealer)) {
+            stats.recordDealerBust();
+            stats.recordPlayerWin(1);
+        } else if (playerTotal > dealerTotal) {
+            stats.recordPlayerWin(1);
+        } else if (playerTotal < dealerTotal) {
+            stats.recordDealerWin();
+        } else {
+            stats.recordPush();
+        }
+    }
+
+    private int nextCard() {
+        if (position == shoe.length) {
+            // Only reachable with a cut card very close to the end of the shoe
+            shuffle();
+        }
+        return shoe[position++];
+    }
+
+    private void shuffle() {
+        for (int i = shoe.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = shoe[i];
+            shoe[i] = shoe[j];
+            shoe[j] = tmp;
+        }
+        position = 0;
+    }
+}
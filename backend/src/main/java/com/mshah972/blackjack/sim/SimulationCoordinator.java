@@ -0,0 +1,388 @@
+package com.mshah972.blackjack.sim;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Splits a {@link SimulationJob} into shards, dispatches them to {@link SimulationWorker}
+ * processes over sockets, and merges their partial statistics.
+ * <p>
+ * Workers are either spawned as local JVMs, which are restarted when they fail, or
+ * given as {@code host:port} addresses of workers started elsewhere, which are
+ * reconnected to after a back-off. A shard that fails is requeued for any worker,
+ * and since shards are seeded independently the merged result does not depend on
+ * which worker ran what. A worker that does not answer within the shard timeout is
+ * treated as failed, so a hung worker is restarted rather than stalling the job.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -cp blackjack-core.jar com.mshah972.blackjack.sim.SimulationCoordinator \
+ *     --rounds 100000000 [--shards 64] [--workers 4 | --hosts h1:port,h2:port] [--worker-heap 512m]
+ *     [--shard-timeout 600] [--decks 6] [--penetration 0.75] [--h17] [--stand-on 17] [--seed 1]
+ * </pre>
+ */
+public class SimulationCoordinator {
+    private static final int MAX_FAILURES_PER_WORKER = 3;
+    private static final long RECONNECT_BACKOFF_MILLIS = 1000;
+    private static final int DEFAULT_SHARD_TIMEOUT_MILLIS = 10 * 60 * 1000;
+
+    private final List<WorkerHandle> workers;
+    private int shardTimeoutMillis = DEFAULT_SHARD_TIMEOUT_MILLIS;
+
+    /**
+     * A worker the coordinator can connect to.
+     */
+    interface WorkerHandle {
+        /** Opens a connection, starting the worker first if needed. */
+        Socket connect() throws IOException;
+
+        /** Replaces a failed worker, or waits before it is tried again. */
+        void recover() throws IOException, InterruptedException;
+
+        /** Shuts the worker down if the coordinator owns it. */
+        void close();
+    }
+
+    /**
+     * Worker JVM spawned and owned by the coordinator.
+     */
+    static final class LocalWorker implements WorkerHandle {
+        private final String heap;
+        private Process process;
+        private int port;
+
+        LocalWorker(String heap) {
+            this.heap = heap;
+        }
+
+        @Override
+        public Socket connect() throws IOException {
+            if (process == null || !process.isAlive()) {
+                start();
+            }
+            return new Socket("127.0.0.1", port);
+        }
+
+        private void start() throws IOException {
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            if (heap != null) {
+                command.add("-Xmx" + heap);
+            }
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(SimulationWorker.class.getName());
+            command.add("0");
+            command.add("127.0.0.1");
+            command.add(SimulationWorker.EXIT_WITH_PARENT);
+            process = new ProcessBuilder(command)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            String line = reader.readLine();
+            if (line == null || !line.startsWith(SimulationWorker.READY_PREFIX)) {
+                process.destroyForcibly();
+                throw new IOException("Worker did not start: " + line);
+            }
+            port = Integer.parseInt(line.substring(SimulationWorker.READY_PREFIX.length()).trim());
+        }
+
+        @Override
+        public void recover() {
+            close();
+        }
+
+        @Override
+        public void close() {
+            if (process != null) {
+                process.destroyForcibly();
+                process = null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "local worker on port " + port;
+        }
+    }
+
+    /**
+     * Worker started elsewhere, e.g. on another machine of a small cluster.
+     */
+    static final class RemoteWorker implements WorkerHandle {
+        private final InetSocketAddress address;
+
+        RemoteWorker(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        @Override
+        public Socket connect() throws IOException {
+            Socket socket = new Socket();
+            socket.connect(address, 5000);
+            return socket;
+        }
+
+        @Override
+        public void recover() throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(RECONNECT_BACKOFF_MILLIS);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return "worker at " + address;
+        }
+    }
+
+    /**
+     * @param workers the workers to dispatch shards to
+     */
+    SimulationCoordinator(List<WorkerHandle> workers) {
+        if (workers.isEmpty()) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+        this.workers = workers;
+    }
+
+    /**
+     * Creates a coordinator that spawns the given number of local worker JVMs.
+     *
+     * @param count number of worker processes
+     * @param heap maximum heap per worker, e.g. {@code 512m}, or {@code null} for the JVM default
+     * @return the coordinator
+     */
+    public static SimulationCoordinator local(int count, String heap) {
+        List<WorkerHandle> workers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            workers.add(new LocalWorker(heap));
+        }
+        return new SimulationCoordinator(workers);
+    }
+
+    /**
+     * Creates a coordinator for workers already running at the given addresses.
+     *
+     * @param hosts worker addresses as {@code host:port}
+     * @return the coordinator
+     */
+    public static SimulationCoordinator remote(List<String> hosts) {
+        List<WorkerHandle> workers = new ArrayList<>(hosts.size());
+        for (String host : hosts) {
+            int colon = host.lastIndexOf(':');
+            workers.add(new RemoteWorker(new InetSocketAddress(host.substring(0, colon),
+                    Integer.parseInt(host.substring(colon + 1)))));
+        }
+        return new SimulationCoordinator(workers);
+    }
+
+    /**
+     * Sets how long a worker may take to answer a shard before it is considered hung.
+     *
+     * @param millis timeout in milliseconds; should comfortably exceed the slowest shard
+     */
+    public void setShardTimeoutMillis(int millis) {
+        if (millis < 1) {
+            throw new IllegalArgumentException("Shard timeout must be positive");
+        }
+        this.shardTimeoutMillis = millis;
+    }
+
+    /**
+     * Runs the job on the workers and merges the results in shard order.
+     *
+     * @param job the job to run
+     * @return the merged statistics
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if every worker failed or a shard cannot be simulated
+     */
+    public SimulationStats run(SimulationJob job) throws InterruptedException {
+        List<SimulationShard> shards = job.split();
+        BlockingQueue<SimulationShard> pending = new LinkedBlockingQueue<>(shards);
+        SimulationStats[] results = new SimulationStats[shards.size()];
+        CountDownLatch done = new CountDownLatch(shards.size());
+        AtomicInteger alive = new AtomicInteger(workers.size());
+        AtomicReference<String> fatal = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (WorkerHandle worker : workers) {
+            Thread thread = new Thread(() -> {
+                try {
+                    drive(worker, shardTimeoutMillis, pending, results, done, fatal);
+                } finally {
+                    alive.decrementAndGet();
+                }
+            }, "simulation-dispatch");
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        while (!done.await(100, TimeUnit.MILLISECONDS)) {
+            if (fatal.get() != null || alive.get() == 0) {
+                break;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        if (fatal.get() != null) {
+            throw new IllegalStateException(fatal.get());
+        }
+        if (done.getCount() > 0) {
+            throw new IllegalStateException("All workers failed with " + done.getCount() + " shards left");
+        }
+
+        SimulationStats merged = new SimulationStats();
+        for (SimulationStats partial : results) {
+            merged.merge(partial);
+        }
+        return merged;
+    }
+
+    private static void drive(WorkerHandle worker, int timeoutMillis, BlockingQueue<SimulationShard> pending,
+                              SimulationStats[] results, CountDownLatch done, AtomicReference<String> fatal) {
+        int failures = 0;
+        try {
+            while (done.getCount() > 0 && fatal.get() == null) {
+                try (Socket socket = worker.connect();
+                     DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                     DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+                    socket.setTcpNoDelay(true);
+                    // A read that times out is an IOException like any other failure
+                    socket.setSoTimeout(timeoutMillis);
+                    while (done.getCount() > 0) {
+                        SimulationShard shard = pending.poll(100, TimeUnit.MILLISECONDS);
+                        if (shard == null) {
+                            continue;
+                        }
+                        try {
+                            out.writeInt(SimulationWorker.COMMAND_RUN);
+                            shard.writeTo(out);
+                            out.flush();
+                            if (in.readUnsignedByte() != SimulationWorker.STATUS_OK) {
+                                fatal.compareAndSet(null, "Worker could not simulate " + shard + ": " + in.readUTF());
+                                return;
+                            }
+                            results[shard.getIndex()] = SimulationStats.readFrom(in);
+                        } catch (IOException e) {
+                            pending.add(shard);
+                            throw e;
+                        }
+                        done.countDown();
+                        // Only consecutive failures count against a worker
+                        failures = 0;
+                    }
+                    out.writeInt(SimulationWorker.COMMAND_QUIT);
+                    out.flush();
+                } catch (IOException e) {
+                    failures++;
+                    System.err.println("Lost " + worker + " (" + e + "), failure " + failures);
+                    if (failures > MAX_FAILURES_PER_WORKER) {
+                        return;
+                    }
+                    try {
+                        worker.recover();
+                    } catch (IOException ignored) {
+                        // The next connect attempt reports the problem
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // Job finished or was abandoned
+        } finally {
+            worker.close();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long rounds = 10_000_000;
+        int shards = 0;
+        int localWorkers = Runtime.getRuntime().availableProcessors();
+        String hosts = null;
+        String heap = null;
+        int shardTimeoutSeconds = DEFAULT_SHARD_TIMEOUT_MILLIS / 1000;
+        int decks = 6;
+        double penetration = 0.75;
+        boolean hitSoft17 = false;
+        int standOn = 17;
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--rounds":
+                    rounds = Long.parseLong(args[++i]);
+                    break;
+                case "--shards":
+                    shards = Integer.parseInt(args[++i]);
+                    break;
+                case "--workers":
+                    localWorkers = Integer.parseInt(args[++i]);
+                    break;
+                case "--hosts":
+                    hosts = args[++i];
+                    break;
+                case "--worker-heap":
+                    heap = args[++i];
+                    break;
+                case "--shard-timeout":
+                    shardTimeoutSeconds = Integer.parseInt(args[++i]);
+                    break;
+                case "--decks":
+                    decks = Integer.parseInt(args[++i]);
+                    break;
+                case "--penetration":
+                    penetration = Double.parseDouble(args[++i]);
+                    break;
+                case "--h17":
+                    hitSoft17 = true;
+                    break;
+                case "--stand-on":
+                    standOn = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        SimulationCoordinator coordinator = hosts == null
+                ? local(localWorkers, heap)
+                : remote(List.of(hosts.split(",")));
+        coordinator.setShardTimeoutMillis(shardTimeoutSeconds * 1000);
+        if (shards == 0) {
+            // Several shards per worker keep everyone busy when shard run times vary
+            shards = coordinator.workers.size() * 4;
+        }
+        SimulationJob job = new SimulationJob(rounds, shards, seed, decks, penetration, hitSoft17, standOn);
+        System.out.println("Running " + job + " on " + coordinator.workers.size() + " workers");
+        long start = System.nanoTime();
+        SimulationStats stats = coordinator.run(job);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(stats);
+        System.out.printf("%.1fs, %.0f rounds/s%n", seconds, stats.getRounds() / seconds);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mshah972.blackjack.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A simulation of one rule variant, split into seeded shards that can run anywhere.
+ */
+public final class SimulationJob {
+    private final long rounds;
+    private final int shardCount;
+    private final long seed;
+    private final int numberOfDecks;
+    private final double penetration;
+    private final boolean hitSoft17;
+    private final int playerStandsOn;
+
+    /**
+     * @param rounds total rounds to play
+     * @param shardCount number of shards to split the rounds into
+     * @param seed job seed; shard seeds are derived from it
+     * @param numberOfDecks decks in the shoe, at least one
+     * @param penetration fraction of the shoe dealt before reshuffling, greater than 0 and at most 1
+     * @param hitSoft17 if true, the dealer hits soft 17
+     * @param playerStandsOn the player hits until reaching at least this total, from 12 to 21
+     */
+    public SimulationJob(long rounds, int shardCount, long seed, int numberOfDecks, double penetration,
+                         boolean hitSoft17, int playerStandsOn) {
+        if (rounds < 1 || shardCount < 1) {
+            throw new IllegalArgumentException("A job needs at least one round and one shard");
+        }
+        if (numberOfDecks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck: " + numberOfDecks);
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException("Penetration must be in (0, 1]: " + penetration);
+        }
+        if (playerStandsOn < 12 || playerStandsOn > 21) {
+            // Below 12 the player could never bust by hitting; above 21 they would hit every hand
+            throw new IllegalArgumentException("Player must stand on a total from 12 to 21: " + playerStandsOn);
+        }
+        this.rounds = rounds;
+        this.shardCount = shardCount;
+        this.seed = seed;
+        this.numberOfDecks = numberOfDecks;
+        this.penetration = penetration;
+        this.hitSoft17 = hitSoft17;
+        this.playerStandsOn = playerStandsOn;
+    }
+
+    /**
+     * Splits the job into shards of near-equal size with deterministic seeds.
+     *
+     * @return the shards, in index order
+     */
+    public List<SimulationShard> split() {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<SimulationShard> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            long shardRounds = rounds / shardCount + (i < rounds % shardCount ? 1 : 0);
+            shards.add(new SimulationShard(i, shardRounds, seeds.nextLong(), numberOfDecks, penetration,
+                    hitSoft17, playerStandsOn));
+        }
+        return shards;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d rounds in %d shards, %d decks, %.0f%% penetration, %s, player stands on %d, seed %d",
+                rounds, shardCount, numberOfDecks, penetration * 100, hitSoft17 ? "H17" : "S17",
+                playerStandsOn, seed);
+    }
+}
@@ -0,0 +1,87 @@
+package com.mshah972.blackjack.sim;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * One independently seeded slice of a simulation job. A shard's result depends
+ * only on its fields, never on which worker runs it.
+ */
+public final class SimulationShard {
+    private final int index;
+    private final long rounds;
+    private final long seed;
+    private final int numberOfDecks;
+    private final double penetration;
+    private final boolean hitSoft17;
+    private final int playerStandsOn;
+
+    /**
+     * @param index position of the shard within its job
+     * @param rounds number of rounds to play
+     * @param seed seed for this shard's shuffles
+     * @param numberOfDecks decks in the shoe
+     * @param penetration fraction of the shoe dealt before reshuffling
+     * @param hitSoft17 if true, the dealer hits soft 17
+     * @param playerStandsOn the player hits until reaching at least this total
+     */
+    public SimulationShard(int index, long rounds, long seed, int numberOfDecks, double penetration,
+                           boolean hitSoft17, int playerStandsOn) {
+        this.index = index;
+        this.rounds = rounds;
+        this.seed = seed;
+        this.numberOfDecks = numberOfDecks;
+        this.penetration = penetration;
+        this.hitSoft17 = hitSoft17;
+        this.playerStandsOn = playerStandsOn;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
+    public double getPenetration() {
+        return penetration;
+    }
+
+    public boolean isHitSoft17() {
+        return hitSoft17;
+    }
+
+    public int getPlayerStandsOn() {
+        return playerStandsOn;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(index);
+        out.writeLong(rounds);
+        out.writeLong(seed);
+        out.writeInt(numberOfDecks);
+        out.writeDouble(penetration);
+        out.writeBoolean(hitSoft17);
+        out.writeInt(playerStandsOn);
+    }
+
+    static SimulationShard readFrom(DataInput in) throws IOException {
+        return new SimulationShard(in.readInt(), in.readLong(), in.readLong(), in.readInt(),
+                in.readDouble(), in.readBoolean(), in.readInt());
+    }
+
+    @Override
+    public String toString() {
+        return "shard " + index + " (" + rounds + " rounds)";
+    }
+}
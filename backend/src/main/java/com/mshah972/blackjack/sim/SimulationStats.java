@@ -0,0 +1,127 @@
+package com.mshah972.blackjack.sim;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Mergeable outcome counters for simulated rounds. Net results are in units of the initial bet.
+ */
+public final class SimulationStats {
+    private long rounds;
+    private long playerWins;
+    private long dealerWins;
+    private long pushes;
+    private long playerBlackjacks;
+    private long playerBusts;
+    private long dealerBusts;
+    private double net;
+    private double netSquares;
+
+    void recordPlayerWin(double payout) {
+        playerWins++;
+        record(payout);
+    }
+
+    void recordDealerWin() {
+        dealerWins++;
+        record(-1);
+    }
+
+    void recordPush() {
+        pushes++;
+        record(0);
+    }
+
+    void recordPlayerBlackjack() {
+        playerBlackjacks++;
+    }
+
+    void recordPlayerBust() {
+        playerBusts++;
+    }
+
+    void recordDealerBust() {
+        dealerBusts++;
+    }
+
+    private void record(double payout) {
+        rounds++;
+        net += payout;
+        netSquares += payout * payout;
+    }
+
+    /**
+     * Adds another set of results to this one.
+     *
+     * @param other partial results, e.g. from another shard
+     */
+    public void merge(SimulationStats other) {
+        rounds += other.rounds;
+        playerWins += other.playerWins;
+        dealerWins += other.dealerWins;
+        pushes += other.pushes;
+        playerBlackjacks += other.playerBlackjacks;
+        playerBusts += other.playerBusts;
+        dealerBusts += other.dealerBusts;
+        net += other.net;
+        netSquares += other.netSquares;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Returns the player's expected result per round in units of the initial bet.
+     */
+    public double getPlayerExpectation() {
+        return rounds == 0 ? 0 : net / rounds;
+    }
+
+    /**
+     * Returns the standard error of {@link #getPlayerExpectation()}.
+     */
+    public double getStandardError() {
+        if (rounds < 2) {
+            return 0;
+        }
+        double mean = net / rounds;
+        double variance = (netSquares - rounds * mean * mean) / (rounds - 1);
+        return Math.sqrt(Math.max(0, variance) / rounds);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(rounds);
+        out.writeLong(playerWins);
+        out.writeLong(dealerWins);
+        out.writeLong(pushes);
+        out.writeLong(playerBlackjacks);
+        out.writeLong(playerBusts);
+        out.writeLong(dealerBusts);
+        out.writeDouble(net);
+        out.writeDouble(netSquares);
+    }
+
+    static SimulationStats readFrom(DataInput in) throws IOException {
+        SimulationStats stats = new SimulationStats();
+        stats.rounds = in.readLong();
+        stats.playerWins = in.readLong();
+        stats.dealerWins = in.readLong();
+        stats.pushes = in.readLong();
+        stats.playerBlackjacks = in.readLong();
+        stats.playerBusts = in.readLong();
+        stats.dealerBusts = in.readLong();
+        stats.net = in.readDouble();
+        stats.netSquares = in.readDouble();
+        return stats;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rounds=%d wins=%d losses=%d pushes=%d blackjacks=%d playerBusts=%d dealerBusts=%d "
+                        + "expectation=%.5f +/- %.5f",
+                rounds, playerWins, dealerWins, pushes, playerBlackjacks, playerBusts, dealerBusts,
+                getPlayerExpectation(), getStandardError());
+    }
+}
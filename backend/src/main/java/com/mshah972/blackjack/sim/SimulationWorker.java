@@ -0,0 +1,85 @@
+package com.mshah972.blackjack.sim;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * Worker process that runs simulation shards sent by a {@link SimulationCoordinator}.
+ * <p>
+ * Usage: {@code SimulationWorker [port=0] [bindAddress=127.0.0.1] [--exit-with-parent]}. Once listening,
+ * the worker prints {@code LISTENING <port>} on a line of its own so a coordinator that spawned it can
+ * connect. With {@code --exit-with-parent} the worker exits when its standard input closes, so spawned
+ * workers do not outlive their coordinator.
+ */
+public class SimulationWorker {
+    static final int COMMAND_QUIT = 0;
+    static final int COMMAND_RUN = 1;
+    static final int STATUS_OK = 0;
+    static final int STATUS_ERROR = 1;
+    static final String READY_PREFIX = "LISTENING ";
+    static final String EXIT_WITH_PARENT = "--exit-with-parent";
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        InetAddress bindAddress = InetAddress.getByName(args.length > 1 ? args[1] : "127.0.0.1");
+        if (args.length > 2 && EXIT_WITH_PARENT.equals(args[2])) {
+            Thread watchdog = new Thread(SimulationWorker::exitWhenParentGone, "parent-watchdog");
+            watchdog.setDaemon(true);
+            watchdog.start();
+        }
+        try (ServerSocket server = new ServerSocket(port, 16, bindAddress)) {
+            System.out.println(READY_PREFIX + server.getLocalPort());
+            System.out.flush();
+            while (true) {
+                Socket socket = server.accept();
+                Thread handler = new Thread(() -> serve(socket), "simulation-connection");
+                handler.start();
+            }
+        }
+    }
+
+    private static void exitWhenParentGone() {
+        try {
+            while (System.in.read() >= 0) {
+                // The coordinator never writes; EOF means it has exited
+            }
+        } catch (IOException ignored) {
+            // Treat a broken pipe like EOF
+        }
+        System.exit(0);
+    }
+
+    private static void serve(Socket socket) {
+        try (Socket s = socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()))) {
+            s.setTcpNoDelay(true);
+            while (in.readInt() == COMMAND_RUN) {
+                SimulationShard shard = SimulationShard.readFrom(in);
+                SimulationStats stats;
+                try {
+                    stats = new RoundSimulator(shard).run();
+                } catch (RuntimeException e) {
+                    out.writeByte(STATUS_ERROR);
+                    out.writeUTF(String.valueOf(e));
+                    out.flush();
+                    continue;
+                }
+                out.writeByte(STATUS_OK);
+                stats.writeTo(out);
+                out.flush();
+            }
+        } catch (EOFException e) {
+            // Coordinator went away
+        } catch (IOException e) {
+            System.err.println("Simulation connection failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.mshah972.blackjack.stream;
+
+import com.mshah972.blackjack.model.GameSnapshot;
+import com.mshah972.blackjack.model.GameState;
+import java.util.Arrays;
+
+import static com.mshah972.blackjack.stream.TableStateFormat.*;
+
+/**
+ * Rebuilds table snapshots from frames produced by {@link TableStateEncoder}.
+ * Decoding must start at a keyframe; the true count is restored to hundredths.
+ * <p>
+ * A delta only applies to the version directly before it. When a frame was lost the
+ * decoder drops its state and rejects further deltas until the next keyframe, e.g.
+ * one replayed by {@link TableStateStream#resync}.
+ */
+public class TableStateDecoder {
+    private GameSnapshot current;
+    private byte[] frame;
+    private int position;
+
+    /**
+     * Applies one frame to the decoded state.
+     *
+     * @param data the encoded frame
+     * @return the table's state after the frame
+     * @throws IllegalStateException if a delta arrives before any keyframe or does not
+     *         follow the current version; a keyframe is then needed to resync
+     * @throws IllegalArgumentException if the frame is malformed
+     */
+    public GameSnapshot apply(byte[] data) {
+        frame = data;
+        position = 0;
+        try {
+            int type = readByte();
+            long version = readVarLong();
+            if (type == KEYFRAME) {
+                GameState.Phase phase = GameState.Phase.values()[readByte()];
+                int shoeSize = (int) readVarLong();
+                double trueCount = unZigZag(readVarLong()) / COUNT_SCALE;
+                byte[] player = readCards(new byte[0]);
+                byte[] dealer = readCards(new byte[0]);
+                current = GameSnapshot.of(version, phase, player, dealer, readByte(), readByte(), shoeSize, trueCount);
+            } else if (type == DELTA) {
+                if (current == null) {
+                    throw new IllegalStateException("Delta frame received before a keyframe");
+                }
+                if (version != current.getVersion() + 1) {
+                    long expected = current.getVersion() + 1;
+                    current = null;
+                    throw new IllegalStateException("Delta frame for version " + version
+                            + " received while expecting " + expected + "; waiting for a keyframe");
+                }
+                current = applyDelta(version);
+            } else {
+                throw new IllegalArgumentException("Unknown frame type: " + type);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated frame", e);
+        }
+        return current;
+    }
+
+    /**
+     * @return the latest decoded state, or {@code null} before the first keyframe and
+     *         after a lost frame until the next one
+     */
+    public GameSnapshot getCurrent() {
+        return current;
+    }
+
+    private GameSnapshot applyDelta(long version) {
+        int flags = readByte();
+        GameState.Phase phase = (flags & PHASE) != 0 ? GameState.Phase.values()[readByte()] : current.getPhase();
+        byte[] player = packed(current, true);
+        if ((flags & PLAYER_CARDS) != 0) {
+            player = readCards(player);
+        }
+        byte[] dealer = packed(current, false);
+        if ((flags & DEALER_CARDS) != 0) {
+            dealer = readCards(dealer);
+        }
+        int shoeSize = (flags & SHOE_SIZE) != 0 ? (int) readVarLong() : current.getShoeSize();
+        double trueCount = (flags & TRUE_COUNT) != 0 ? unZigZag(readVarLong()) / COUNT_SCALE : current.getTrueCount();
+        int playerValue = (flags & PLAYER_VALUE) != 0 ? readByte() : current.getPlayerValue();
+        int dealerValue = (flags & DEALER_VALUE) != 0 ? readByte() : current.getDealerValue();
+        return GameSnapshot.of(version, phase, player, dealer, playerValue, dealerValue, shoeSize, trueCount);
+    }
+
+    private static byte[] packed(GameSnapshot snapshot, boolean player) {
+        int count = player ? snapshot.getPlayerCardCount() : snapshot.getDealerCardCount();
+        byte[] ids = new byte[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = (byte) (player ? snapshot.getPlayerCard(i) : snapshot.getDealerCard(i)).getId();
+        }
+        return ids;
+    }
+
+    private byte[] readCards(byte[] existing) {
+        int added = readByte();
+        byte[] cards = Arrays.copyOf(existing, existing.length + added);
+        for (int i = existing.length; i < cards.length; i++) {
+            cards[i] = (byte) readByte();
+        }
+        return cards;
+    }
+
+    private int readByte() {
+        return frame[position++] & 0xFF;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int unZigZag(long value) {
+        int v = (int) value;
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
@@ -0,0 +1,170 @@
+package com.mshah972.blackjack.stream;
+
+import com.mshah972.blackjack.model.GameSnapshot;
+import java.util.Arrays;
+
+import static com.mshah972.blackjack.stream.TableStateFormat.*;
+
+/**
+ * Turns the successive snapshots of one table into compact binary frames:
+ * a keyframe with the full state, then deltas with only the new cards and
+ * the fields that changed. A keyframe is forced at the start of each round
+ * and every {@code keyframeInterval} frames so late subscribers can catch up.
+ * <p>
+ * Not thread-safe; use one encoder per table from the table's thread.
+ */
+public class TableStateEncoder {
+    private final int keyframeInterval;
+    private byte[] buffer = new byte[64];
+    private int length;
+    private GameSnapshot previous;
+    private int framesSinceKeyframe;
+    private boolean lastKeyframe;
+
+    /**
+     * @param keyframeInterval maximum number of deltas between keyframes
+     */
+    public TableStateEncoder(int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be positive");
+        }
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * Encodes the next snapshot of the table, as a delta when possible.
+     *
+     * @param snapshot the table's latest snapshot
+     * @return the encoded frame
+     */
+    public byte[] encode(GameSnapshot snapshot) {
+        if (previous == null || framesSinceKeyframe >= keyframeInterval || !continues(previous, snapshot)) {
+            return encodeKeyframe(snapshot);
+        }
+        length = 0;
+        writeByte(DELTA);
+        writeVarLong(snapshot.getVersion());
+        int flagsAt = length;
+        writeByte(0);
+        int flags = 0;
+        if (snapshot.getPhase() != previous.getPhase()) {
+            flags |= PHASE;
+            writeByte(snapshot.getPhase().ordinal());
+        }
+        if (snapshot.getPlayerCardCount() != previous.getPlayerCardCount()) {
+            flags |= PLAYER_CARDS;
+            writeNewCards(previous.getPlayerCardCount(), snapshot.getPlayerCardCount(), snapshot, true);
+        }
+        if (snapshot.getDealerCardCount() != previous.getDealerCardCount()) {
+            flags |= DEALER_CARDS;
+            writeNewCards(previous.getDealerCardCount(), snapshot.getDealerCardCount(), snapshot, false);
+        }
+        if (snapshot.getShoeSize() != previous.getShoeSize()) {
+            flags |= SHOE_SIZE;
+            writeVarLong(snapshot.getShoeSize());
+        }
+        int count = quantize(snapshot.getTrueCount());
+        if (count != quantize(previous.getTrueCount())) {
+            flags |= TRUE_COUNT;
+            writeVarLong(zigZag(count));
+        }
+        if (snapshot.getPlayerValue() != previous.getPlayerValue()) {
+            flags |= PLAYER_VALUE;
+            writeByte(snapshot.getPlayerValue());
+        }
+        if (snapshot.getDealerValue() != previous.getDealerValue()) {
+            flags |= DEALER_VALUE;
+            writeByte(snapshot.getDealerValue());
+        }
+        buffer[flagsAt] = (byte) flags;
+        previous = snapshot;
+        framesSinceKeyframe++;
+        lastKeyframe = false;
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Encodes the full state of the snapshot and restarts the delta sequence from it.
+     *
+     * @param snapshot the table's latest snapshot
+     * @return the encoded keyframe
+     */
+    public byte[] encodeKeyframe(GameSnapshot snapshot) {
+        length = 0;
+        writeByte(KEYFRAME);
+        writeVarLong(snapshot.getVersion());
+        writeByte(snapshot.getPhase().ordinal());
+        writeVarLong(snapshot.getShoeSize());
+        writeVarLong(zigZag(quantize(snapshot.getTrueCount())));
+        writeNewCards(0, snapshot.getPlayerCardCount(), snapshot, true);
+        writeNewCards(0, snapshot.getDealerCardCount(), snapshot, false);
+        writeByte(snapshot.getPlayerValue());
+        writeByte(snapshot.getDealerValue());
+        previous = snapshot;
+        framesSinceKeyframe = 0;
+        lastKeyframe = true;
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * @return true if the most recent frame was a keyframe
+     */
+    public boolean isLastFrameKeyframe() {
+        return lastKeyframe;
+    }
+
+    /**
+     * A delta can only append cards and follow the previous version directly; a new
+     * round (hands cleared) or a skipped snapshot needs a keyframe.
+     */
+    private static boolean continues(GameSnapshot before, GameSnapshot after) {
+        if (after.getVersion() != before.getVersion() + 1) {
+            return false;
+        }
+        if (after.getPlayerCardCount() < before.getPlayerCardCount()
+                || after.getDealerCardCount() < before.getDealerCardCount()) {
+            return false;
+        }
+        for (int i = 0; i < before.getPlayerCardCount(); i++) {
+            if (!before.getPlayerCard(i).equals(after.getPlayerCard(i))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < before.getDealerCardCount(); i++) {
+            if (!before.getDealerCard(i).equals(after.getDealerCard(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeNewCards(int from, int to, GameSnapshot snapshot, boolean player) {
+        writeByte(to - from);
+        for (int i = from; i < to; i++) {
+            writeByte((player ? snapshot.getPlayerCard(i) : snapshot.getDealerCard(i)).getId());
+        }
+    }
+
+    static int quantize(double trueCount) {
+        return (int) Math.round(trueCount * COUNT_SCALE);
+    }
+
+    private static long zigZag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private void writeByte(int value) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+}
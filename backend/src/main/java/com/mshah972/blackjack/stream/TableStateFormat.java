@@ -0,0 +1,29 @@
+package com.mshah972.blackjack.stream;
+
+/**
+ * Wire constants shared by {@link TableStateEncoder} and {@link TableStateDecoder}.
+ * <p>
+ * Every frame starts with a type byte and the table version as an unsigned varint.
+ * A keyframe then carries the full state: phase, shoe size, true count, both hands
+ * as a length byte plus card ids, and both hand values. A delta carries a flags byte
+ * followed by only the fields whose flag is set, in flag order; new cards are sent as
+ * a count byte plus the ids appended since the previous frame. The true count is sent
+ * in hundredths as a zig-zag varint.
+ */
+final class TableStateFormat {
+    static final int KEYFRAME = 0;
+    static final int DELTA = 1;
+
+    static final int PHASE = 1;
+    static final int PLAYER_CARDS = 1 << 1;
+    static final int DEALER_CARDS = 1 << 2;
+    static final int SHOE_SIZE = 1 << 3;
+    static final int TRUE_COUNT = 1 << 4;
+    static final int PLAYER_VALUE = 1 << 5;
+    static final int DEALER_VALUE = 1 << 6;
+
+    static final double COUNT_SCALE = 100.0;
+
+    private TableStateFormat() {
+    }
+}
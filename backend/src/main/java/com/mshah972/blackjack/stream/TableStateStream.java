@@ -0,0 +1,93 @@
+package com.mshah972.blackjack.stream;
+
+import com.mshah972.blackjack.model.GameSnapshot;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Fans the encoded frames of one table out to its subscribers.
+ * <p>
+ * The stream keeps the latest keyframe and the deltas published after it, so a new
+ * subscriber is first replayed that keyframe and those deltas and then receives live
+ * frames, with no gap. A subscriber whose decoder lost a frame calls {@link #resync}
+ * to be replayed the same frames again. Subscribers are called on the publishing thread
+ * and should only hand the frame off, e.g. to a socket write queue.
+ */
+public class TableStateStream {
+    private final TableStateEncoder encoder;
+    private final List<Consumer<byte[]>> subscribers = new CopyOnWriteArrayList<>();
+    private byte[] keyframe;
+    private final List<byte[]> deltasSinceKeyframe = new ArrayList<>();
+
+    /**
+     * @param keyframeInterval maximum number of deltas between keyframes
+     */
+    public TableStateStream(int keyframeInterval) {
+        this.encoder = new TableStateEncoder(keyframeInterval);
+    }
+
+    /**
+     * Encodes the table's latest snapshot and sends the frame to every subscriber.
+     * Can be registered directly as a {@code GameService} snapshot listener.
+     *
+     * @param snapshot the latest snapshot
+     */
+    public synchronized void publish(GameSnapshot snapshot) {
+        byte[] frame = encoder.encode(snapshot);
+        if (encoder.isLastFrameKeyframe()) {
+            keyframe = frame;
+            deltasSinceKeyframe.clear();
+        } else {
+            deltasSinceKeyframe.add(frame);
+        }
+        for (Consumer<byte[]> subscriber : subscribers) {
+            try {
+                subscriber.accept(frame);
+            } catch (RuntimeException e) {
+                // One broken spectator must not cut off the others; it can resync later
+                System.err.println("Table stream subscriber failed: " + e);
+            }
+        }
+    }
+
+    /**
+     * Registers a subscriber, first replaying the latest keyframe and the deltas since.
+     *
+     * @param subscriber receives encoded frames in order
+     */
+    public synchronized void subscribe(Consumer<byte[]> subscriber) {
+        replay(subscriber);
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Replays the latest keyframe and the deltas since to a subscriber that fell out of
+     * sequence, e.g. because its decoder rejected a delta after a lost frame. Live frames
+     * published afterwards follow the replay directly.
+     *
+     * @param subscriber the subscriber to bring back in sync
+     */
+    public synchronized void resync(Consumer<byte[]> subscriber) {
+        replay(subscriber);
+    }
+
+    private void replay(Consumer<byte[]> subscriber) {
+        if (keyframe != null) {
+            subscriber.accept(keyframe);
+            for (byte[] delta : deltasSinceKeyframe) {
+                subscriber.accept(delta);
+            }
+        }
+    }
+
+    /**
+     * Removes a subscriber.
+     *
+     * @param subscriber the subscriber to remove
+     */
+    public void unsubscribe(Consumer<byte[]> subscriber) {
+        subscribers.remove(subscriber);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mshah972.blackjack.util;
+
+import com.mshah972.blackjack.model.Card;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Precomputed finite-state machine for dealer play.
+ * <p>
+ * A dealer hand is reduced to an integer state: its hard total (Aces counted as 1)
+ * and whether it holds an Ace. For each state the table stores the next state per
+ * card value, whether the dealer hits, and the best hand value, so playing the
+ * dealer is a few array lookups per card. One table exists per soft-17 rule.
+ */
+public final class DealerTransitionTable {
+    /** State of an empty hand. */
+    public static final int START = 0;
+
+    private static final int MAX_HARD_TOTAL = 31;
+    private static final int STATE_COUNT = (MAX_HARD_TOTAL + 1) * 2;
+    private static final int CARD_VALUES = 11;
+
+    private static final DealerTransitionTable STAND_SOFT_17 = new DealerTransitionTable(false);
+    private static final DealerTransitionTable HIT_SOFT_17 = new DealerTransitionTable(true);
+
+    private final int[] transitions = new int[STATE_COUNT * CARD_VALUES];
+    private final boolean[] hits = new boolean[STATE_COUNT];
+    private final int[] totals = new int[STATE_COUNT];
+
+    private DealerTransitionTable(boolean hitSoft17) {
+        for (int hard = 0; hard <= MAX_HARD_TOTAL; hard++) {
+            for (int ace = 0; ace <= 1; ace++) {
+                int state = encode(hard, ace == 1);
+                boolean soft = ace == 1 && hard + 10 <= 21;
+                int total = soft ? hard + 10 : hard;
+                totals[state] = total;
+                hits[state] = total < 17 || (hitSoft17 && soft && total == 17);
+                for (int value = 1; value < CARD_VALUES; value++) {
+                    int nextHard = Math.min(hard + value, MAX_HARD_TOTAL);
+                    transitions[state * CARD_VALUES + value] = encode(nextHard, ace == 1 || value == 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the table for the given soft-17 rule.
+     *
+     * @param hitSoft17 if true, the dealer hits soft 17
+     * @return the shared transition table
+     */
+    public static DealerTransitionTable forRules(boolean hitSoft17) {
+        return hitSoft17 ? HIT_SOFT_17 : STAND_SOFT_17;
+    }
+
+    private static int encode(int hardTotal, boolean hasAce) {
+        return hardTotal * 2 + (hasAce ? 1 : 0);
+    }
+
+    /**
+     * Computes the state of an existing hand in a single pass.
+     *
+     * @param cards the dealer's cards
+     * @return the state
+     */
+    public int stateOf(List<Card> cards) {
+        int state = START;
+        for (int i = 0; i < cards.size(); i++) {
+            state = next(state, cards.get(i).getValue());
+        }
+        return state;
+    }
+
+    /**
+     * Returns the state after adding a card of the given value.
+     *
+     * @param state current state
+     * @param cardValue card value from 1 (Ace) to 10
+     * @return the next state
+     */
+    public int next(int state, int cardValue) {
+        return transitions[state * CARD_VALUES + cardValue];
+    }
+
+    /**
+     * @param state current state
+     * @return true if the dealer must draw another card
+     */
+    public boolean shouldHit(int state) {
+        return hits[state];
+    }
+
+    /**
+     * @param state current state
+     * @return the best hand value, counting one Ace as 11 where that does not bust
+     */
+    public int total(int state) {
+        return totals[state];
+    }
+
+    /**
+     * @param state current state
+     * @return true if the hand value exceeds 21
+     */
+    public boolean isBust(int state) {
+        return totals[state] > 21;
+    }
+
+    /**
+     * Plays the dealer out from the given state without building a hand.
+     *
+     * @param state starting state, e.g. after the up card and hole card
+     * @param nextCardValue supplies the value of each card drawn
+     * @return the final state
+     */
+    public int playOut(int state, IntSupplier nextCardValue) {
+        while (hits[state]) {
+            state = transitions[state * CARD_VALUES + nextCardValue.getAsInt()];
+        }
+        return state;
+    }
+}
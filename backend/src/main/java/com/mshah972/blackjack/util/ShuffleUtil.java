@@ -15,8 +15,20 @@ public class ShuffleUtil {
      * @param <T>  the type of list elements
      */
     public static <T> void shuffle(List<T> list) {
+        shuffle(list, RANDOM);
+    }
+
+    /**
+     * Shuffles the given list in-place using the Fisher–Yates algorithm and the given
+     * source of randomness, e.g. a per-thread generator to avoid contention on the shared one.
+     *
+     * @param list   the list to shuffle
+     * @param random the source of randomness
+     * @param <T>    the type of list elements
+     */
+    public static <T> void shuffle(List<T> list, Random random) {
         for (int i = list.size() - 1; i > 0; i--) {
-            int j = RANDOM.nextInt(i + 1);
+            int j = random.nextInt(i + 1);
             Collections.swap(list, i, j);
         }
     }
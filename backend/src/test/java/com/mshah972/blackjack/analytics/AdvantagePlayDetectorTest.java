@@ -0,0 +1,95 @@
+package com.mshah972.blackjack.analytics;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdvantagePlayDetectorTest {
+    private static final int PLAYERS = 20_000;
+    private static final int COUNTERS = 10;
+    private static final int HANDS = 200;
+
+    @Test
+    void findsPlantedCountersAmongManyPlayers() {
+        AdvantagePlayDetector detector = new AdvantagePlayDetector(COUNTERS, 100);
+        Random random = new Random(2024);
+        Set<String> counters = new HashSet<>();
+        while (counters.size() < COUNTERS) {
+            counters.add("player-" + random.nextInt(PLAYERS));
+        }
+
+        for (int p = 0; p < PLAYERS; p++) {
+            String id = "player-" + p;
+            boolean counter = counters.contains(id);
+            // Some recreational players vary their bets a lot, just not with the count
+            double[] bets = random.nextInt(10) == 0 ? new double[] {1, 5, 25} : new double[] {1, 2};
+            for (int hand = 0; hand < HANDS; hand++) {
+                double trueCount = random.nextGaussian() * 1.5;
+                double bet = counter
+                        ? Math.max(1, Math.min(12, Math.floor(trueCount) * 3))
+                        : bets[random.nextInt(bets.length)];
+                detector.recordBet(id, bet, trueCount);
+                int total = 12 + random.nextInt(5);
+                boolean stand = counter ? trueCount > 0 : random.nextInt(3) > 0;
+                detector.recordDecision(id, total, stand ? Decision.STAND : Decision.HIT, trueCount);
+            }
+        }
+
+        List<Suspect> top = detector.getTopSuspects();
+        assertEquals(COUNTERS, top.size());
+        for (Suspect suspect : top) {
+            assertTrue(counters.contains(suspect.getPlayerId()), suspect + " is not a planted counter");
+        }
+        assertEquals(PLAYERS, detector.getTrackedPlayers());
+    }
+
+    @Test
+    void leaderboardHoldsLatestScoreUnderConcurrentEvents() throws InterruptedException {
+        AdvantagePlayDetector detector = new AdvantagePlayDetector(1, 1);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            workers[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 20_000; i++) {
+                    double trueCount = random.nextDouble(-4, 4);
+                    detector.recordBet("table-1", trueCount > 0 ? 1 + random.nextInt(10) : 1, trueCount);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(detector.getScore("table-1"), detector.getTopSuspects().get(0).getScore(), 0);
+    }
+
+    @Test
+    void endSessionStopsTrackingButKeepsLeaderboard() {
+        AdvantagePlayDetector detector = new AdvantagePlayDetector(5, 2);
+        detector.recordBet("a", 1, -1);
+        detector.recordBet("a", 8, 3);
+        double score = detector.getScore("a");
+        assertTrue(score > 0);
+
+        detector.endSession("a");
+        assertEquals(0, detector.getTrackedPlayers());
+        assertEquals(0.0, detector.getScore("a"), 0);
+        assertEquals(score, detector.getTopSuspects().get(0).getScore(), 0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mshah972.blackjack.analytics;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerProfileTest {
+
+    @Test
+    void isNotScoredBeforeMinimumHands() {
+        PlayerProfile profile = new PlayerProfile();
+        for (int i = 0; i < 49; i++) {
+            profile.recordBet(i % 2 == 0 ? 1 : 8, i % 2 == 0 ? -1 : 3);
+        }
+        assertEquals(0.0, profile.score(50), 0);
+        profile.recordBet(1, -1);
+        assertTrue(profile.score(50) > 0);
+    }
+
+    @Test
+    void computesBetSpreadBetweenHighAndLowCounts() {
+        PlayerProfile profile = new PlayerProfile();
+        assertEquals(1.0, profile.getBetSpread(), 0);
+        profile.recordBet(2, -1);
+        profile.recordBet(4, 0);
+        profile.recordBet(10, 1);
+        profile.recordBet(12, PlayerProfile.HIGH_COUNT);
+        profile.recordBet(24, 4);
+        assertEquals(18.0 / 3.0, profile.getBetSpread(), 1e-12);
+    }
+
+    @Test
+    void onlyStiffHitOrStandDecisionsCount() {
+        PlayerProfile profile = new PlayerProfile();
+        profile.recordDecision(11, Decision.STAND, 5);
+        profile.recordDecision(17, Decision.HIT, -5);
+        profile.recordDecision(14, Decision.DOUBLE, 5);
+        assertEquals(0.0, profile.getStiffStandCorrelation(), 0);
+        profile.recordDecision(12, Decision.HIT, -2);
+        profile.recordDecision(16, Decision.STAND, 3);
+        assertEquals(1.0, profile.getStiffStandCorrelation(), 1e-12);
+    }
+
+    @Test
+    void scoresCounterAboveFlatBettor() {
+        Random random = new Random(11);
+        PlayerProfile counter = new PlayerProfile();
+        PlayerProfile flat = new PlayerProfile();
+        for (int hand = 0; hand < 500; hand++) {
+            double trueCount = random.nextGaussian() * 1.5;
+            counter.recordBet(Math.max(1, Math.min(8, Math.floor(trueCount) * 2)), trueCount);
+            counter.recordDecision(12 + random.nextInt(5), trueCount > 0 ? Decision.STAND : Decision.HIT, trueCount);
+            flat.recordBet(random.nextBoolean() ? 1 : 2, trueCount);
+            flat.recordDecision(12 + random.nextInt(5), random.nextBoolean() ? Decision.STAND : Decision.HIT, trueCount);
+        }
+        assertTrue(counter.score(100) > 0.5, "counter scored " + counter.score(100));
+        assertTrue(flat.score(100) < 0.2, "flat bettor scored " + flat.score(100));
+    }
+}
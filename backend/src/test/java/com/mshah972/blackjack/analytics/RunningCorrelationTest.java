@@ -0,0 +1,81 @@
+package com.mshah972.blackjack.analytics;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RunningCorrelationTest {
+
+    @Test
+    void perfectlyLinearStreamsCorrelateFully() {
+        RunningCorrelation rising = new RunningCorrelation();
+        RunningCorrelation falling = new RunningCorrelation();
+        for (int i = 0; i < 100; i++) {
+            rising.add(i, 3 * i + 7);
+            falling.add(i, -0.5 * i);
+        }
+        assertEquals(1.0, rising.getCorrelation(), 1e-12);
+        assertEquals(-1.0, falling.getCorrelation(), 1e-12);
+        assertEquals(100, rising.getCount());
+    }
+
+    @Test
+    void isZeroWithoutVariance() {
+        RunningCorrelation correlation = new RunningCorrelation();
+        assertEquals(0.0, correlation.getCorrelation(), 0);
+        for (int i = 0; i < 10; i++) {
+            correlation.add(i, 5);
+        }
+        assertEquals(0.0, correlation.getCorrelation(), 0);
+    }
+
+    @Test
+    void matchesTwoPassPearson() {
+        Random random = new Random(3);
+        int n = 10_000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        RunningCorrelation correlation = new RunningCorrelation();
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextGaussian();
+            y[i] = 0.3 * x[i] + random.nextGaussian();
+            correlation.add(x[i], y[i]);
+        }
+        assertEquals(pearson(x, y), correlation.getCorrelation(), 1e-9);
+    }
+
+    @Test
+    void staysAccurateWithLargeOffsets() {
+        Random random = new Random(5);
+        int n = 10_000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        RunningCorrelation correlation = new RunningCorrelation();
+        for (int i = 0; i < n; i++) {
+            double base = random.nextGaussian();
+            x[i] = base;
+            y[i] = base + 0.5 * random.nextGaussian();
+            correlation.add(1e9 + x[i], 1e9 + y[i]);
+        }
+        assertEquals(pearson(x, y), correlation.getCorrelation(), 1e-6);
+    }
+
+    private static double pearson(double[] x, double[] y) {
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < x.length; i++) {
+            meanX += x[i] / x.length;
+            meanY += y[i] / y.length;
+        }
+        double sxy = 0;
+        double sxx = 0;
+        double syy = 0;
+        for (int i = 0; i < x.length; i++) {
+            sxy += (x[i] - meanX) * (y[i] - meanY);
+            sxx += (x[i] - meanX) * (x[i] - meanX);
+            syy += (y[i] - meanY) * (y[i] - meanY);
+        }
+        return sxy / Math.sqrt(sxx * syy);
+    }
+}
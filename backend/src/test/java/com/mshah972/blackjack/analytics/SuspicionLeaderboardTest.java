@@ -0,0 +1,68 @@
+package com.mshah972.blackjack.analytics;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SuspicionLeaderboardTest {
+
+    @Test
+    void keepsHighestScoresInOrder() {
+        SuspicionLeaderboard board = new SuspicionLeaderboard(3);
+        double[] scores = {0.2, 0.9, 0.1, 0.5, 0.7, 0.3};
+        for (int i = 0; i < scores.length; i++) {
+            board.offer("p" + i, scores[i]);
+        }
+        assertEquals(List.of("p1", "p4", "p3"), ids(board.snapshot()));
+        assertEquals(0.9, board.snapshot().get(0).getScore(), 0);
+    }
+
+    @Test
+    void rejectsScoreNotAboveLowestWhenFull() {
+        SuspicionLeaderboard board = new SuspicionLeaderboard(2);
+        board.offer("a", 0.5);
+        board.offer("b", 0.6);
+        board.offer("c", 0.5);
+        board.offer("d", 0.1);
+        assertEquals(List.of("b", "a"), ids(board.snapshot()));
+    }
+
+    @Test
+    void updatesMemberScoreInPlace() {
+        SuspicionLeaderboard board = new SuspicionLeaderboard(2);
+        board.offer("a", 0.5);
+        board.offer("b", 0.6);
+        board.offer("a", 0.8);
+        assertEquals(List.of("a", "b"), ids(board.snapshot()));
+        board.offer("a", 0.1);
+        assertEquals(List.of("b", "a"), ids(board.snapshot()));
+        assertEquals(0.1, board.snapshot().get(1).getScore(), 0);
+        assertEquals(2, board.snapshot().size());
+    }
+
+    @Test
+    void admitsAgainAfterLowestMemberDropped() {
+        SuspicionLeaderboard board = new SuspicionLeaderboard(2);
+        board.offer("a", 0.5);
+        board.offer("b", 0.6);
+        board.offer("a", 0.1);
+        board.offer("c", 0.2);
+        assertEquals(List.of("b", "c"), ids(board.snapshot()));
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SuspicionLeaderboard(0));
+    }
+
+    private static List<String> ids(List<Suspect> suspects) {
+        List<String> ids = new ArrayList<>();
+        for (Suspect suspect : suspects) {
+            ids.add(suspect.getPlayerId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,108 @@
+package com.mshah972.blackjack.corpus;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.Deck;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShoeCorpusTest {
+    /** Offsets into the corpus header. */
+    private static final int DECKS_PER_SHOE_OFFSET = 8;
+    private static final int SHOE_COUNT_OFFSET = 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopensCreatedCorpus() throws IOException {
+        Path file = directory.resolve("shoes.bin");
+        byte[] created = new byte[2 * Card.DISTINCT_CARDS];
+        try (ShoeCorpus corpus = ShoeCorpus.create(file, 2, 3, 11)) {
+            corpus.readShoe(1, created);
+        }
+        try (ShoeCorpus corpus = ShoeCorpus.open(file)) {
+            assertEquals(2, corpus.getDecksPerShoe());
+            assertEquals(3, corpus.getShoeCount());
+            assertEquals(11, corpus.getSeed());
+            byte[] reopened = new byte[corpus.getShoeSize()];
+            corpus.readShoe(1, reopened);
+            assertEquals(toList(created), toList(reopened));
+        }
+    }
+
+    @Test
+    void rejectsZeroDecksPerShoe() throws IOException {
+        Path file = createCorpus();
+        overwrite(file, DECKS_PER_SHOE_OFFSET, ByteBuffer.allocate(Integer.BYTES).putInt(0, 0));
+        assertThrows(IOException.class, () -> ShoeCorpus.open(file));
+    }
+
+    @Test
+    void rejectsNegativeShoeCount() throws IOException {
+        Path file = createCorpus();
+        overwrite(file, SHOE_COUNT_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(0, -1));
+        assertThrows(IOException.class, () -> ShoeCorpus.open(file));
+    }
+
+    @Test
+    void rejectsShoeCountWhoseSizeOverflows() throws IOException {
+        Path file = createCorpus();
+        // 52 * this wraps around to a small value that the file size check would accept
+        long shoeCount = Long.MAX_VALUE / 26 + 1;
+        overwrite(file, SHOE_COUNT_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(0, shoeCount));
+        IOException e = assertThrows(IOException.class, () -> ShoeCorpus.open(file));
+        assertTrue(e.getMessage().startsWith("Not a shoe corpus"));
+    }
+
+    @Test
+    void rejectsOversizedShoes() throws IOException {
+        Path file = createCorpus();
+        overwrite(file, DECKS_PER_SHOE_OFFSET, ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE));
+        IOException e = assertThrows(IOException.class, () -> ShoeCorpus.open(file));
+        assertTrue(e.getMessage().startsWith("Not a shoe corpus"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ShoeCorpus.create(directory.resolve("large.bin"), ShoeCorpus.MAX_DECKS_PER_SHOE + 1, 1, 0));
+    }
+
+    @Test
+    void shuffleMovesCorpusDeckToNextSlot() throws IOException {
+        try (ShoeCorpus corpus = ShoeCorpus.create(directory.resolve("shoes.bin"), 1, 4, 3)) {
+            Deck shuffled = new Deck(corpus, 0);
+            shuffled.draw();
+            shuffled.shuffle();
+            Deck second = new Deck(corpus, 1);
+            assertEquals(second.getCards(), shuffled.getCards());
+        }
+    }
+
+    private Path createCorpus() throws IOException {
+        Path file = directory.resolve("shoes.bin");
+        ShoeCorpus.create(file, 1, 2, 5).close();
+        return file;
+    }
+
+    private static void overwrite(Path file, long offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+
+    private static List<Byte> toList(byte[] bytes) {
+        List<Byte> list = new ArrayList<>(bytes.length);
+        for (byte b : bytes) {
+            list.add(b);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,144 @@
+package com.mshah972.blackjack.json;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.Deck;
+import com.mshah972.blackjack.model.GameSnapshot;
+import com.mshah972.blackjack.model.GameState;
+import com.mshah972.blackjack.model.Hand;
+import com.mshah972.blackjack.model.Rank;
+import com.mshah972.blackjack.model.Suit;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameStateJsonWriterTest {
+    private static final String ACE_OF_SPADES = "{\"rank\":\"ACE\",\"suit\":\"SPADES\",\"value\":1}";
+    private static final String KING_OF_HEARTS = "{\"rank\":\"KING\",\"suit\":\"HEARTS\",\"value\":10}";
+    private static final String SIX_OF_CLUBS = "{\"rank\":\"SIX\",\"suit\":\"CLUBS\",\"value\":6}";
+    private static final String NINE_OF_DIAMONDS = "{\"rank\":\"NINE\",\"suit\":\"DIAMONDS\",\"value\":9}";
+
+    @Test
+    void writesEveryCard() {
+        assertEquals(ACE_OF_SPADES, json(new GameStateJsonWriter().writeCard(card(Rank.ACE, Suit.SPADES))));
+        assertEquals(KING_OF_HEARTS, json(new GameStateJsonWriter().writeCard(card(Rank.KING, Suit.HEARTS))));
+        for (int id = 0; id < Card.DISTINCT_CARDS; id++) {
+            Card card = Card.fromId(id);
+            assertEquals("{\"rank\":\"" + card.getRank() + "\",\"suit\":\"" + card.getSuit()
+                    + "\",\"value\":" + card.getValue() + "}", json(new GameStateJsonWriter().writeCard(card)));
+        }
+    }
+
+    @Test
+    void writesHandFlags() {
+        assertEquals("{\"cards\":[" + ACE_OF_SPADES + "," + KING_OF_HEARTS
+                        + "],\"value\":21,\"blackjack\":true,\"bust\":false}",
+                json(new GameStateJsonWriter().writeHand(hand(card(Rank.ACE, Suit.SPADES), card(Rank.KING, Suit.HEARTS)))));
+        assertEquals("{\"cards\":[" + KING_OF_HEARTS + "," + SIX_OF_CLUBS + "," + NINE_OF_DIAMONDS
+                        + "],\"value\":25,\"blackjack\":false,\"bust\":true}",
+                json(new GameStateJsonWriter().writeHand(hand(card(Rank.KING, Suit.HEARTS), card(Rank.SIX, Suit.CLUBS),
+                        card(Rank.NINE, Suit.DIAMONDS)))));
+        assertEquals("{\"cards\":[],\"value\":0,\"blackjack\":false,\"bust\":false}",
+                json(new GameStateJsonWriter().writeHand(new Hand())));
+    }
+
+    @Test
+    void writesGameStateWithNegativeTrueCount() {
+        GameState state = new GameState(new Deck(1, List.of(Card.fromId(0), Card.fromId(1), Card.fromId(2))),
+                hand(card(Rank.ACE, Suit.SPADES), card(Rank.SIX, Suit.CLUBS)), hand(card(Rank.KING, Suit.HEARTS)),
+                GameState.Phase.PLAYER_TURN);
+
+        assertEquals("{\"phase\":\"PLAYER_TURN\""
+                        + ",\"player\":{\"cards\":[" + ACE_OF_SPADES + "," + SIX_OF_CLUBS
+                        + "],\"value\":17,\"blackjack\":false,\"bust\":false}"
+                        + ",\"dealer\":{\"cards\":[" + KING_OF_HEARTS + "],\"value\":10,\"blackjack\":false,\"bust\":false}"
+                        + ",\"shoeSize\":3,\"trueCount\":-1.25}",
+                json(new GameStateJsonWriter().writeGameState(state, -1.25)));
+    }
+
+    @Test
+    void writesSnapshotWithVersion() {
+        GameSnapshot snapshot = GameSnapshot.of(42, GameState.Phase.FINISHED,
+                new byte[] {(byte) card(Rank.KING, Suit.HEARTS).getId(), (byte) card(Rank.NINE, Suit.DIAMONDS).getId()},
+                new byte[] {(byte) card(Rank.ACE, Suit.SPADES).getId(), (byte) card(Rank.KING, Suit.HEARTS).getId()},
+                19, 21, 308, 2.5);
+
+        assertEquals("{\"phase\":\"FINISHED\",\"version\":42"
+                        + ",\"player\":{\"cards\":[" + KING_OF_HEARTS + "," + NINE_OF_DIAMONDS
+                        + "],\"value\":19,\"blackjack\":false,\"bust\":false}"
+                        + ",\"dealer\":{\"cards\":[" + ACE_OF_SPADES + "," + KING_OF_HEARTS
+                        + "],\"value\":21,\"blackjack\":true,\"bust\":false}"
+                        + ",\"shoeSize\":308,\"trueCount\":2.50}",
+                json(new GameStateJsonWriter().writeSnapshot(snapshot)));
+    }
+
+    @Test
+    void roundsTrueCountToHundredths() {
+        assertEquals("0.00", trueCount(0));
+        assertEquals("0.00", trueCount(-0.004));
+        assertEquals("-0.01", trueCount(-0.006));
+        assertEquals("-0.50", trueCount(-0.5));
+        assertEquals("0.07", trueCount(0.0651));
+        assertEquals("3.14", trueCount(3.14159));
+        assertEquals("-12.35", trueCount(-12.345678));
+        assertEquals("10.00", trueCount(9.999));
+    }
+
+    @Test
+    void writesExtremeVersions() {
+        assertEquals("9223372036854775807", version(Long.MAX_VALUE));
+        assertEquals("-9223372036854775808", version(Long.MIN_VALUE));
+        assertEquals("0", version(0));
+        assertEquals("-7", version(-7));
+    }
+
+    @Test
+    void growsFromSmallBufferAndResets() throws IOException {
+        GameState state = new GameState(new Deck(1, List.of()),
+                hand(card(Rank.TWO, Suit.CLUBS), card(Rank.TWO, Suit.DIAMONDS), card(Rank.TWO, Suit.HEARTS),
+                        card(Rank.TWO, Suit.SPADES), card(Rank.THREE, Suit.CLUBS), card(Rank.THREE, Suit.DIAMONDS)),
+                hand(card(Rank.TEN, Suit.SPADES), card(Rank.SEVEN, Suit.HEARTS)), GameState.Phase.DEALER_TURN);
+        String expected = json(new GameStateJsonWriter().writeGameState(state, 1.5));
+
+        GameStateJsonWriter writer = new GameStateJsonWriter(1);
+        assertEquals(expected, json(writer.writeGameState(state, 1.5)));
+        assertEquals(expected.length(), writer.length());
+
+        writer.reset().writeCard(card(Rank.ACE, Suit.SPADES));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        assertEquals(ACE_OF_SPADES, out.toString(StandardCharsets.US_ASCII.name()));
+    }
+
+    private static String trueCount(double value) {
+        GameSnapshot snapshot = GameSnapshot.of(1, GameState.Phase.PLAYER_TURN, new byte[0], new byte[0], 0, 0, 0, value);
+        String json = json(new GameStateJsonWriter(0).writeSnapshot(snapshot));
+        return json.substring(json.indexOf("\"trueCount\":") + "\"trueCount\":".length(), json.length() - 1);
+    }
+
+    private static String version(long value) {
+        GameSnapshot snapshot = GameSnapshot.of(value, GameState.Phase.PLAYER_TURN, new byte[0], new byte[0], 0, 0, 0, 0);
+        String json = json(new GameStateJsonWriter(0).writeSnapshot(snapshot));
+        int start = json.indexOf("\"version\":") + "\"version\":".length();
+        return json.substring(start, json.indexOf(',', start));
+    }
+
+    private static String json(GameStateJsonWriter writer) {
+        return new String(writer.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private static Card card(Rank rank, Suit suit) {
+        return new Card(suit, rank);
+    }
+
+    private static Hand hand(Card... cards) {
+        Hand hand = new Hand();
+        for (Card card : cards) {
+            hand.addCard(card);
+        }
+        return hand;
+    }
+}
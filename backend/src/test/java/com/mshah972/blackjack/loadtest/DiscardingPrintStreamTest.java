@@ -0,0 +1,26 @@
+package com.mshah972.blackjack.loadtest;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class DiscardingPrintStreamTest {
+
+    @Test
+    void writesDoNotTakeTheStreamMonitor() throws InterruptedException {
+        PrintStream stream = new DiscardingPrintStream();
+        Thread writer = new Thread(() -> {
+            stream.println("card dealt");
+            stream.print(21);
+            stream.printf("%d%n", 17);
+            stream.write(new byte[] {1, 2, 3}, 0, 3);
+        });
+        synchronized (stream) {
+            writer.start();
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(writer.isAlive(), "Writer blocked on the stream monitor");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.mshah972.blackjack.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DeckTest {
+
+    @Test
+    void backgroundPreparationDealsSameShoesAsInline() {
+        ExecutorService preparer = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(shoes(Runnable::run), shoes(preparer));
+        } finally {
+            preparer.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectedBackgroundPreparationDealsSameShoes() {
+        Executor inline = Runnable::run;
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("shut down");
+        };
+        assertEquals(shoes(inline), shoes(rejecting));
+    }
+
+    @Test
+    void drawSwapsInShoePreparedInBackground() {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        AtomicInteger prepared = new AtomicInteger();
+        Executor preparer = task -> {
+            prepared.incrementAndGet();
+            pool.execute(task);
+        };
+        try {
+            Deck deck = new Deck(6, 0.25, new Random(1), preparer);
+            int shoeSize = 6 * Card.DISTINCT_CARDS;
+            assertEquals(1, prepared.get());
+            for (int i = 0; i < shoeSize - 2; i++) {
+                deck.draw();
+            }
+            // The draw that left two cards swapped in the prepared shoe and queued the next one
+            assertEquals(shoeSize, deck.size());
+            assertEquals(2, prepared.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<List<Card>> shoes(Executor preparer) {
+        Deck deck = new Deck(2, 0.25, new Random(42), preparer);
+        List<List<Card>> shoes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            shoes.add(new ArrayList<>(deck.getCards()));
+            deck.reset();
+        }
+        return shoes;
+    }
+}
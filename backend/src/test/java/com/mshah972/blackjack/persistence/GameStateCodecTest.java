@@ -0,0 +1,76 @@
+package com.mshah972.blackjack.persistence;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.Deck;
+import com.mshah972.blackjack.model.GameState;
+import com.mshah972.blackjack.model.Hand;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameStateCodecTest {
+
+    @Test
+    void roundTripsFreshGame() {
+        GameState state = new GameState();
+        assertSameState(state, GameStateCodec.decode(GameStateCodec.encode(state)));
+    }
+
+    @Test
+    void roundTripsMidRoundMultiDeckShoe() {
+        Deck deck = new Deck(6, 0.25, new Random(7), null);
+        Hand player = new Hand();
+        Hand dealer = new Hand();
+        for (int i = 0; i < 3; i++) {
+            player.addCard(deck.draw());
+        }
+        dealer.addCard(deck.draw());
+        dealer.addCard(deck.draw());
+        GameState state = new GameState(deck, player, dealer, GameState.Phase.DEALER_TURN);
+
+        GameState decoded = GameStateCodec.decode(GameStateCodec.encode(state));
+
+        assertSameState(state, decoded);
+        assertEquals(6, decoded.getDeck().getNumberOfDecks());
+    }
+
+    @Test
+    void preservesDealingOrder() {
+        List<Card> remaining = new ArrayList<>();
+        for (int id = 0; id < Card.DISTINCT_CARDS; id++) {
+            remaining.add(Card.fromId(id));
+        }
+        GameState state = new GameState(new Deck(1, remaining), new Hand(), new Hand(), GameState.Phase.FINISHED);
+
+        Deck decoded = GameStateCodec.decode(GameStateCodec.encode(state)).getDeck();
+
+        assertEquals(Card.fromId(Card.DISTINCT_CARDS - 1), decoded.draw());
+        assertEquals(Card.fromId(Card.DISTINCT_CARDS - 2), decoded.draw());
+    }
+
+    @Test
+    void rejectsUnknownFormatVersion() {
+        byte[] data = GameStateCodec.encode(new GameState());
+        data[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(data));
+    }
+
+    @Test
+    void rejectsTruncatedData() {
+        byte[] data = GameStateCodec.encode(new GameState());
+        byte[] truncated = new byte[data.length / 2];
+        System.arraycopy(data, 0, truncated, 0, truncated.length);
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.decode(truncated));
+    }
+
+    private static void assertSameState(GameState expected, GameState actual) {
+        assertEquals(expected.getPhase(), actual.getPhase());
+        assertEquals(expected.getDeck().getCards(), actual.getDeck().getCards());
+        assertEquals(expected.getPlayerHand().getCards(), actual.getPlayerHand().getCards());
+        assertEquals(expected.getDealerHand().getCards(), actual.getDealerHand().getCards());
+    }
+}
@@ -0,0 +1,265 @@
+package com.mshah972.blackjack.persistence;
+
+import com.mshah972.blackjack.model.GameState;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionStoreTest {
+    private static final long NEVER = 3_600_000;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * In-memory backend whose batch writes can be made to block or fail.
+     */
+    private static final class TestBackend implements SessionBackend {
+        final Map<String, byte[]> stored = new ConcurrentHashMap<>();
+        volatile CountDownLatch storeEntered;
+        volatile CountDownLatch storeReleased;
+        volatile boolean failStores;
+
+        @Override
+        public byte[] load(String sessionId) {
+            return stored.get(sessionId);
+        }
+
+        @Override
+        public void storeAll(Map<String, byte[]> sessions) throws IOException {
+            if (storeEntered != null) {
+                storeEntered.countDown();
+                try {
+                    // Bounded so a failing test cannot leave close() waiting forever
+                    storeReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failStores) {
+                throw new IOException("backend unavailable");
+            }
+            stored.putAll(sessions);
+        }
+
+        @Override
+        public void delete(String sessionId) {
+            stored.remove(sessionId);
+        }
+
+        void blockStores() {
+            storeEntered = new CountDownLatch(1);
+            storeReleased = new CountDownLatch(1);
+        }
+    }
+
+    @Test
+    void keepsChangeToSessionEvictedBeforeMarkDirty() throws Exception {
+        try (SessionStore store = new SessionStore(new FileSessionBackend(directory), 1, NEVER, NEVER)) {
+            store.put("A", new GameState());
+            GameState a = store.get("A");
+            a.getPlayerHand().addCard(a.getDeck().draw());
+            store.put("B", new GameState());
+            store.markDirty("A", a);
+
+            assertEquals(1, store.get("A").getPlayerHand().getCards().size());
+        }
+    }
+
+    @Test
+    void rehydratesEvictedSessionAfterFlush() throws Exception {
+        FileSessionBackend backend = new FileSessionBackend(directory);
+        try (SessionStore store = new SessionStore(backend, 1, NEVER, NEVER)) {
+            GameState a = new GameState();
+            a.getDealerHand().addCard(a.getDeck().draw());
+            store.put("A", a);
+            store.put("B", new GameState());
+            store.flush();
+
+            assertEquals(a.getDealerHand().getCards(), store.get("A").getDealerHand().getCards());
+        }
+        try (SessionStore reopened = new SessionStore(backend, 1, NEVER, NEVER)) {
+            assertEquals(1, reopened.get("A").getDealerHand().getCards().size());
+            assertNull(reopened.get("missing"));
+        }
+    }
+
+    @Test
+    void boundsCacheAndServesEvictedDirtySessions() throws Exception {
+        TestBackend backend = new TestBackend();
+        try (SessionStore store = new SessionStore(backend, 2, NEVER, NEVER)) {
+            GameState a = new GameState();
+            a.getPlayerHand().addCard(a.getDeck().draw());
+            store.put("A", a);
+            store.put("B", new GameState());
+            store.put("C", new GameState());
+
+            assertEquals(2, store.size());
+            assertTrue(backend.stored.isEmpty());
+            assertEquals(a.getPlayerHand().getCards(), store.get("A").getPlayerHand().getCards());
+        }
+        assertEquals(3, backend.stored.size());
+    }
+
+    @Test
+    void evictsIdleSessions() throws Exception {
+        TestBackend backend = new TestBackend();
+        try (SessionStore store = new SessionStore(backend, 10, 1, NEVER)) {
+            store.put("A", new GameState());
+            TimeUnit.MILLISECONDS.sleep(20);
+            store.evictIdle();
+
+            assertEquals(0, store.size());
+            assertNotNull(store.get("A"));
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    void retriesBatchAfterFailedFlush() throws Exception {
+        TestBackend backend = new TestBackend();
+        try (SessionStore store = new SessionStore(backend, 10, NEVER, NEVER)) {
+            store.put("A", new GameState());
+            backend.failStores = true;
+            assertThrows(IOException.class, store::flush);
+            assertTrue(backend.stored.isEmpty());
+
+            backend.failStores = false;
+            store.flush();
+            assertTrue(backend.stored.containsKey("A"));
+        }
+    }
+
+    @Test
+    void failedFlushDoesNotOverwriteNewerChange() throws Exception {
+        TestBackend backend = new TestBackend();
+        try (SessionStore store = new SessionStore(backend, 10, NEVER, NEVER)) {
+            GameState a = new GameState();
+            store.put("A", a);
+            backend.failStores = true;
+            backend.blockStores();
+            AtomicReference<Throwable> flushError = new AtomicReference<>();
+            Thread flush = flushInBackground(store, flushError);
+            backend.storeEntered.await();
+            a.getPlayerHand().addCard(a.getDeck().draw());
+            store.markDirty("A", a);
+            backend.storeReleased.countDown();
+            flush.join();
+            assertTrue(flushError.get() instanceof IOException);
+
+            backend.failStores = false;
+            store.flush();
+            assertEquals(1, GameStateCodec.decode(backend.stored.get("A")).getPlayerHand().getCards().size());
+        }
+    }
+
+    @Test
+    void sessionRemovedDuringFlushStaysRemoved() throws Exception {
+        TestBackend backend = new TestBackend();
+        try (SessionStore store = new SessionStore(backend, 10, NEVER, NEVER)) {
+            store.put("A", new GameState());
+            backend.blockStores();
+            AtomicReference<Throwable> flushError = new AtomicReference<>();
+            Thread flush = flushInBackground(store, flushError);
+            backend.storeEntered.await();
+
+            Thread remove = new Thread(() -> store.remove("A"));
+            remove.start();
+            awaitRemoved(store, "A");
+
+            backend.storeReleased.countDown();
+            flush.join();
+            remove.join();
+            assertNull(flushError.get());
+            assertFalse(backend.stored.containsKey("A"));
+            assertNull(store.get("A"));
+        }
+    }
+
+    @Test
+    void sessionRemovedDuringFailedFlushIsNotRetried() throws Exception {
+        TestBackend backend = new TestBackend();
+        try (SessionStore store = new SessionStore(backend, 10, NEVER, NEVER)) {
+            store.put("A", new GameState());
+            backend.failStores = true;
+            backend.blockStores();
+            AtomicReference<Throwable> flushError = new AtomicReference<>();
+            Thread flush = flushInBackground(store, flushError);
+            backend.storeEntered.await();
+
+            Thread remove = new Thread(() -> store.remove("A"));
+            remove.start();
+            awaitRemoved(store, "A");
+
+            backend.storeReleased.countDown();
+            flush.join();
+            remove.join();
+            assertTrue(flushError.get() instanceof IOException);
+
+            backend.failStores = false;
+            backend.storeEntered = null;
+            store.flush();
+            assertFalse(backend.stored.containsKey("A"));
+            assertNull(store.get("A"));
+        }
+    }
+
+    @Test
+    void sessionRecreatedWhileRemovalPendingIsWrittenAfterDelete() throws Exception {
+        TestBackend backend = new TestBackend();
+        try (SessionStore store = new SessionStore(backend, 10, NEVER, NEVER)) {
+            store.put("A", new GameState());
+            backend.blockStores();
+            AtomicReference<Throwable> flushError = new AtomicReference<>();
+            Thread flush = flushInBackground(store, flushError);
+            backend.storeEntered.await();
+
+            Thread remove = new Thread(() -> store.remove("A"));
+            remove.start();
+            awaitRemoved(store, "A");
+            GameState recreated = new GameState();
+            recreated.getDealerHand().addCard(recreated.getDeck().draw());
+            store.put("A", recreated);
+
+            backend.storeEntered = null;
+            backend.storeReleased.countDown();
+            flush.join();
+            remove.join();
+            store.flush();
+            assertEquals(1, GameStateCodec.decode(backend.stored.get("A")).getDealerHand().getCards().size());
+        }
+    }
+
+    private static Thread flushInBackground(SessionStore store, AtomicReference<Throwable> error) {
+        Thread thread = new Thread(() -> {
+            try {
+                store.flush();
+            } catch (IOException | RuntimeException e) {
+                error.set(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitRemoved(SessionStore store, String sessionId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (store.get(sessionId) != null) {
+            assertTrue(System.nanoTime() < deadline, "Removal was not visible");
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.mshah972.blackjack.service;
+
+import com.mshah972.blackjack.model.Deck;
+import com.mshah972.blackjack.model.GameState;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServiceTest {
+
+    @Test
+    void playsRoundsWithShoesPreparedInBackground() {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        AtomicInteger prepared = new AtomicInteger();
+        Executor preparer = task -> {
+            prepared.incrementAndGet();
+            pool.execute(task);
+        };
+        try {
+            GameService service = new GameService(() -> new Deck(1, 0.25, new Random(3), preparer));
+            Deck deck = service.getGameState().getDeck();
+            for (int round = 0; round < 100; round++) {
+                playRound(service);
+            }
+            // One shoe lasts roughly ten rounds, so several were swapped in from the background
+            assertSame(deck, service.getGameState().getDeck());
+            assertTrue(prepared.get() > 5, "Only " + prepared.get() + " shoes were prepared in the background");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failingSnapshotListenerDoesNotBreakTableActions() {
+        GameService service = new GameService(() -> new Deck(6, 0.25, new Random(5), null));
+        List<Long> delivered = new ArrayList<>();
+        service.addSnapshotListener(snapshot -> {
+            throw new IllegalStateException("spectator disconnected");
+        });
+        service.addSnapshotListener(snapshot -> delivered.add(snapshot.getVersion()));
+
+        for (int round = 0; round < 5; round++) {
+            playRound(service);
+        }
+
+        assertEquals(GameState.Phase.FINISHED, service.getGameState().getPhase());
+        assertFalse(delivered.isEmpty());
+        assertEquals(service.getSnapshot().getVersion(), (long) delivered.get(delivered.size() - 1));
+    }
+
+    private static void playRound(GameService service) {
+        // Keep startGame() from prompting on stdin for a reshuffle
+        if (service.getGameState().getDeck().size() <= 12) {
+            service.getGameState().getDeck().reset();
+        }
+        service.startGame();
+        if (service.getGameState().getPhase() == GameState.Phase.PLAYER_TURN) {
+            service.playerStand();
+        }
+        if (service.getGameState().getPhase() == GameState.Phase.DEALER_TURN) {
+            service.dealerTurn();
+        }
+    }
+}
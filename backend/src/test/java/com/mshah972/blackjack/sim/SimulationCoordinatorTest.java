@@ -0,0 +1,175 @@
+package com.mshah972.blackjack.sim;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationCoordinatorTest {
+    private static final SimulationJob JOB = new SimulationJob(40_000, 8, 5, 6, 0.75, false, 17);
+
+    private enum Behavior {
+        ANSWER,
+        DROP,
+        HANG
+    }
+
+    /**
+     * Worker served from a thread in this JVM that answers, drops or hangs per request.
+     */
+    private static final class InProcessWorker implements SimulationCoordinator.WorkerHandle {
+        private final ServerSocket server;
+        private final IntFunction<Behavior> behavior;
+        private final CountDownLatch closed = new CountDownLatch(1);
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger recoveries = new AtomicInteger();
+
+        InProcessWorker(IntFunction<Behavior> behavior) throws IOException {
+            this.server = new ServerSocket(0, 16, InetAddress.getLoopbackAddress());
+            this.behavior = behavior;
+            Thread acceptor = new Thread(() -> {
+                try {
+                    while (true) {
+                        Socket socket = server.accept();
+                        Thread handler = new Thread(() -> serve(socket));
+                        handler.setDaemon(true);
+                        handler.start();
+                    }
+                } catch (IOException e) {
+                    // Server closed at the end of the test
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private void serve(Socket socket) {
+            try (Socket s = socket;
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()))) {
+                while (in.readInt() == SimulationWorker.COMMAND_RUN) {
+                    SimulationShard shard = SimulationShard.readFrom(in);
+                    Behavior next = behavior.apply(requests.incrementAndGet());
+                    if (next == Behavior.DROP) {
+                        return;
+                    }
+                    if (next == Behavior.HANG) {
+                        closed.await(30, TimeUnit.SECONDS);
+                        return;
+                    }
+                    out.writeByte(SimulationWorker.STATUS_OK);
+                    new RoundSimulator(shard).run().writeTo(out);
+                    out.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+                // Connection closed by the coordinator
+            }
+        }
+
+        @Override
+        public Socket connect() throws IOException {
+            return new Socket(server.getInetAddress(), server.getLocalPort());
+        }
+
+        @Override
+        public void recover() {
+            recoveries.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        void shutdown() throws IOException {
+            closed.countDown();
+            server.close();
+        }
+    }
+
+    @Test
+    void mergesShardsInOrder() throws Exception {
+        InProcessWorker first = new InProcessWorker(n -> Behavior.ANSWER);
+        InProcessWorker second = new InProcessWorker(n -> Behavior.ANSWER);
+        try {
+            SimulationStats stats = new SimulationCoordinator(List.of(first, second)).run(JOB);
+            assertEquals(expected().toString(), stats.toString());
+            assertEquals(8, first.requests.get() + second.requests.get());
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+    }
+
+    @Test
+    void requeuesShardsFromDroppedConnections() throws Exception {
+        InProcessWorker flaky = new InProcessWorker(n -> n <= 2 ? Behavior.DROP : Behavior.ANSWER);
+        InProcessWorker healthy = new InProcessWorker(n -> Behavior.ANSWER);
+        try {
+            SimulationStats stats = new SimulationCoordinator(List.of(flaky, healthy)).run(JOB);
+            assertEquals(expected().toString(), stats.toString());
+            assertTrue(flaky.recoveries.get() >= 1);
+        } finally {
+            flaky.shutdown();
+            healthy.shutdown();
+        }
+    }
+
+    @Test
+    void recoversHungWorkerAfterShardTimeout() throws Exception {
+        InProcessWorker worker = new InProcessWorker(n -> n == 1 ? Behavior.HANG : Behavior.ANSWER);
+        try {
+            SimulationCoordinator coordinator = new SimulationCoordinator(List.of(worker));
+            coordinator.setShardTimeoutMillis(200);
+            SimulationStats stats = coordinator.run(JOB);
+            assertEquals(expected().toString(), stats.toString());
+            assertEquals(1, worker.recoveries.get());
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void keepsWorkerWhoseFailuresAreInterleavedWithSuccesses() throws Exception {
+        // Fails more often than MAX_FAILURES_PER_WORKER in total, but never twice in a row
+        InProcessWorker worker = new InProcessWorker(n -> n % 2 == 0 ? Behavior.DROP : Behavior.ANSWER);
+        try {
+            SimulationStats stats = new SimulationCoordinator(List.of(worker)).run(JOB);
+            assertEquals(expected().toString(), stats.toString());
+            assertTrue(worker.recoveries.get() > 3);
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    void failsWhenEveryWorkerKeepsFailing() throws Exception {
+        InProcessWorker worker = new InProcessWorker(n -> Behavior.DROP);
+        try {
+            assertThrows(IllegalStateException.class, () -> new SimulationCoordinator(List.of(worker)).run(JOB));
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    private static SimulationStats expected() {
+        SimulationStats merged = new SimulationStats();
+        for (SimulationShard shard : JOB.split()) {
+            merged.merge(new RoundSimulator(shard).run());
+        }
+        return merged;
+    }
+}
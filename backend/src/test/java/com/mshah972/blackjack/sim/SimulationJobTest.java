@@ -0,0 +1,79 @@
+package com.mshah972.blackjack.sim;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationJobTest {
+
+    @Test
+    void splitsRoundsIntoNearEqualShards() {
+        List<SimulationShard> shards = new SimulationJob(1003, 10, 1, 6, 0.75, false, 17).split();
+        assertEquals(10, shards.size());
+        long total = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            SimulationShard shard = shards.get(i);
+            assertEquals(i, shard.getIndex());
+            assertEquals(i < 3 ? 101 : 100, shard.getRounds());
+            total += shard.getRounds();
+        }
+        assertEquals(1003, total);
+    }
+
+    @Test
+    void derivesDistinctReproducibleSeeds() {
+        List<SimulationShard> first = new SimulationJob(1000, 16, 42, 6, 0.75, false, 17).split();
+        List<SimulationShard> again = new SimulationJob(1000, 16, 42, 6, 0.75, false, 17).split();
+        List<SimulationShard> other = new SimulationJob(1000, 16, 43, 6, 0.75, false, 17).split();
+        Set<Long> seeds = new HashSet<>();
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getSeed(), again.get(i).getSeed());
+            seeds.add(first.get(i).getSeed());
+        }
+        assertEquals(16, seeds.size());
+        assertTrue(first.get(0).getSeed() != other.get(0).getSeed());
+    }
+
+    @Test
+    void shardsCarryRulesAndSurviveWireFormat() throws IOException {
+        SimulationShard shard = new SimulationJob(10, 1, 7, 2, 0.5, true, 15).split().get(0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        shard.writeTo(new DataOutputStream(bytes));
+        SimulationShard read = SimulationShard.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(shard.getSeed(), read.getSeed());
+        assertEquals(10, read.getRounds());
+        assertEquals(2, read.getNumberOfDecks());
+        assertEquals(0.5, read.getPenetration(), 0);
+        assertTrue(read.isHitSoft17());
+        assertEquals(15, read.getPlayerStandsOn());
+    }
+
+    @Test
+    void acceptsBoundaryRules() {
+        new SimulationJob(1, 1, 0, 1, 1.0, false, 12);
+        new SimulationJob(1, 1, 0, 8, 0.01, true, 21);
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(0, 1, 0, 6, 0.75, false, 17));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(10, 0, 0, 6, 0.75, false, 17));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(10, 1, 0, 0, 0.75, false, 17));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(10, 1, 0, 6, 0, false, 17));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(10, 1, 0, 6, 1.5, false, 17));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(10, 1, 0, 6, Double.NaN, false, 17));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(10, 1, 0, 6, 0.75, false, 11));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationJob(10, 1, 0, 6, 0.75, false, 22));
+    }
+}
@@ -0,0 +1,59 @@
+package com.mshah972.blackjack.sim;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimulationStatsTest {
+
+    @Test
+    void mergeAddsCountersAndMoments() {
+        SimulationStats first = new SimulationStats();
+        first.recordPlayerBlackjack();
+        first.recordPlayerWin(1.5);
+        first.recordDealerWin();
+        first.recordPlayerBust();
+        SimulationStats second = new SimulationStats();
+        second.recordPush();
+        second.recordPlayerWin(1);
+        second.recordDealerBust();
+
+        first.merge(second);
+
+        assertEquals(4, first.getRounds());
+        assertEquals((1.5 - 1 + 0 + 1) / 4, first.getPlayerExpectation(), 1e-12);
+        assertEquals("rounds=4 wins=2 losses=1 pushes=1 blackjacks=1 playerBusts=1 dealerBusts=1 ",
+                first.toString().substring(0, first.toString().indexOf("expectation")));
+    }
+
+    @Test
+    void computesStandardErrorOfMean() {
+        SimulationStats stats = new SimulationStats();
+        stats.recordPlayerWin(1);
+        stats.recordDealerWin();
+        stats.recordPlayerWin(1);
+        stats.recordDealerWin();
+        // Sample variance of {1, -1, 1, -1} is 4/3
+        assertEquals(Math.sqrt(4.0 / 3.0 / 4), stats.getStandardError(), 1e-12);
+        assertEquals(0.0, new SimulationStats().getStandardError(), 0);
+    }
+
+    @Test
+    void roundTripsThroughWireFormat() throws IOException {
+        SimulationStats stats = new RoundSimulator(
+                new SimulationShard(0, 5_000, 17, 6, 0.75, true, 17)).run();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        stats.writeTo(new DataOutputStream(bytes));
+        SimulationStats read = SimulationStats.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(stats.toString(), read.toString());
+        assertEquals(stats.getPlayerExpectation(), read.getPlayerExpectation(), 0);
+        assertEquals(stats.getStandardError(), read.getStandardError(), 0);
+    }
+}
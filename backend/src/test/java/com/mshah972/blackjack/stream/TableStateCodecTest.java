@@ -0,0 +1,178 @@
+package com.mshah972.blackjack.stream;
+
+import com.mshah972.blackjack.model.GameSnapshot;
+import com.mshah972.blackjack.model.GameState;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableStateCodecTest {
+
+    @Test
+    void roundTripsKeyframeAndDeltas() {
+        TableStateEncoder encoder = new TableStateEncoder(16);
+        TableStateDecoder decoder = new TableStateDecoder();
+
+        for (GameSnapshot snapshot : round(1)) {
+            assertSameState(snapshot, decoder.apply(encoder.encode(snapshot)));
+        }
+    }
+
+    @Test
+    void sendsDeltasWithinRoundAndKeyframeForNewRound() {
+        TableStateEncoder encoder = new TableStateEncoder(16);
+        List<GameSnapshot> first = round(1);
+        for (int i = 0; i < first.size(); i++) {
+            encoder.encode(first.get(i));
+            assertEquals(i == 0, encoder.isLastFrameKeyframe());
+        }
+        encoder.encode(round(first.size() + 1).get(0));
+        assertTrue(encoder.isLastFrameKeyframe());
+    }
+
+    @Test
+    void forcesKeyframeAfterInterval() {
+        TableStateEncoder encoder = new TableStateEncoder(2);
+        List<GameSnapshot> snapshots = round(1);
+        encoder.encode(snapshots.get(0));
+        encoder.encode(snapshots.get(1));
+        encoder.encode(snapshots.get(2));
+        assertFalse(encoder.isLastFrameKeyframe());
+        encoder.encode(snapshots.get(3));
+        assertTrue(encoder.isLastFrameKeyframe());
+    }
+
+    @Test
+    void restoresNegativeTrueCountToHundredths() {
+        GameSnapshot snapshot = snapshot(7, GameState.Phase.PLAYER_TURN, new byte[] {0, 13}, new byte[] {26}, -3.14159);
+        GameSnapshot decoded = new TableStateDecoder().apply(new TableStateEncoder(4).encode(snapshot));
+        assertEquals(-3.14, decoded.getTrueCount(), 1e-9);
+    }
+
+    @Test
+    void rejectsDeltaBeforeKeyframe() {
+        TableStateEncoder encoder = new TableStateEncoder(16);
+        List<GameSnapshot> snapshots = round(1);
+        encoder.encode(snapshots.get(0));
+        byte[] delta = encoder.encode(snapshots.get(1));
+        assertThrows(IllegalStateException.class, () -> new TableStateDecoder().apply(delta));
+    }
+
+    @Test
+    void rejectsDeltaAfterLostFrameUntilKeyframe() {
+        TableStateEncoder encoder = new TableStateEncoder(16);
+        TableStateDecoder decoder = new TableStateDecoder();
+        List<GameSnapshot> snapshots = round(1);
+        byte[] keyframe = encoder.encode(snapshots.get(0));
+        encoder.encode(snapshots.get(1));
+        byte[] afterGap = encoder.encode(snapshots.get(2));
+        byte[] next = encoder.encode(snapshots.get(3));
+
+        decoder.apply(keyframe);
+        assertThrows(IllegalStateException.class, () -> decoder.apply(afterGap));
+        assertNull(decoder.getCurrent());
+        assertThrows(IllegalStateException.class, () -> decoder.apply(next));
+
+        assertSameState(snapshots.get(3), decoder.apply(encoder.encodeKeyframe(snapshots.get(3))));
+    }
+
+    @Test
+    void encodesSkippedVersionAsKeyframe() {
+        TableStateEncoder encoder = new TableStateEncoder(16);
+        TableStateDecoder decoder = new TableStateDecoder();
+        List<GameSnapshot> snapshots = round(1);
+        decoder.apply(encoder.encode(snapshots.get(0)));
+        byte[] frame = encoder.encode(snapshots.get(2));
+        assertTrue(encoder.isLastFrameKeyframe());
+        assertSameState(snapshots.get(2), decoder.apply(frame));
+    }
+
+    @Test
+    void rejectsTruncatedFrame() {
+        byte[] frame = new TableStateEncoder(16).encode(round(1).get(3));
+        byte[] truncated = new byte[frame.length - 2];
+        System.arraycopy(frame, 0, truncated, 0, truncated.length);
+        assertThrows(IllegalArgumentException.class, () -> new TableStateDecoder().apply(truncated));
+    }
+
+    @Test
+    void streamResyncsSubscriberFromLatestKeyframe() {
+        TableStateStream stream = new TableStateStream(16);
+        List<GameSnapshot> snapshots = round(1);
+        stream.publish(snapshots.get(0));
+        stream.publish(snapshots.get(1));
+
+        TableStateDecoder decoder = new TableStateDecoder();
+        List<byte[]> dropped = new ArrayList<>();
+        stream.subscribe(frame -> {
+            if (dropped.isEmpty() && decoder.getCurrent() != null
+                    && decoder.getCurrent().getVersion() == snapshots.get(1).getVersion()) {
+                dropped.add(frame);
+                return;
+            }
+            try {
+                decoder.apply(frame);
+            } catch (IllegalStateException e) {
+                // Lost a frame; the test resyncs below
+            }
+        });
+        stream.publish(snapshots.get(2));
+        stream.publish(snapshots.get(3));
+        assertNull(decoder.getCurrent());
+
+        stream.resync(decoder::apply);
+        assertSameState(snapshots.get(3), decoder.getCurrent());
+    }
+
+    @Test
+    void failingSubscriberDoesNotCutOffOthers() {
+        TableStateStream stream = new TableStateStream(16);
+        TableStateDecoder decoder = new TableStateDecoder();
+        stream.subscribe(frame -> {
+            throw new IllegalStateException("socket closed");
+        });
+        stream.subscribe(decoder::apply);
+        List<GameSnapshot> snapshots = round(1);
+        for (GameSnapshot snapshot : snapshots) {
+            stream.publish(snapshot);
+        }
+        assertSameState(snapshots.get(3), decoder.getCurrent());
+    }
+
+    /**
+     * Successive snapshots of one round: deal, a hit, the dealer's turn and the result.
+     */
+    private static List<GameSnapshot> round(long firstVersion) {
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        long version = firstVersion;
+        snapshots.add(snapshot(version++, GameState.Phase.PLAYER_TURN, new byte[] {9, 17}, new byte[] {38}, 0.5));
+        snapshots.add(snapshot(version++, GameState.Phase.PLAYER_TURN, new byte[] {9, 17, 1}, new byte[] {38}, 0.5));
+        snapshots.add(snapshot(version++, GameState.Phase.DEALER_TURN, new byte[] {9, 17, 1}, new byte[] {38, 51}, 0.25));
+        snapshots.add(snapshot(version, GameState.Phase.FINISHED, new byte[] {9, 17, 1}, new byte[] {38, 51, 4}, -1.75));
+        return snapshots;
+    }
+
+    private static GameSnapshot snapshot(long version, GameState.Phase phase, byte[] player, byte[] dealer,
+                                         double trueCount) {
+        int shoeSize = 312 - player.length - dealer.length;
+        return GameSnapshot.of(version, phase, player, dealer, 10 + player.length, 5 + dealer.length,
+                shoeSize, trueCount);
+    }
+
+    private static void assertSameState(GameSnapshot expected, GameSnapshot actual) {
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getPhase(), actual.getPhase());
+        assertEquals(expected.getPlayerCards(), actual.getPlayerCards());
+        assertEquals(expected.getDealerCards(), actual.getDealerCards());
+        assertEquals(expected.getPlayerValue(), actual.getPlayerValue());
+        assertEquals(expected.getDealerValue(), actual.getDealerValue());
+        assertEquals(expected.getShoeSize(), actual.getShoeSize());
+        assertEquals(expected.getTrueCount(), actual.getTrueCount(), 0.005);
+    }
+}
@@ -0,0 +1,143 @@
+package com.mshah972.blackjack.util;
+
+import com.mshah972.blackjack.model.Card;
+import com.mshah972.blackjack.model.Hand;
+import com.mshah972.blackjack.model.Rank;
+import com.mshah972.blackjack.model.Suit;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DealerTransitionTableTest {
+    private static final DealerTransitionTable S17 = DealerTransitionTable.forRules(false);
+    private static final DealerTransitionTable H17 = DealerTransitionTable.forRules(true);
+
+    @Test
+    void softSeventeenDependsOnRule() {
+        int state = S17.stateOf(cards(Rank.ACE, Rank.SIX));
+        assertEquals(17, S17.total(state));
+        assertFalse(S17.shouldHit(state));
+        assertTrue(H17.shouldHit(H17.stateOf(cards(Rank.ACE, Rank.SIX))));
+    }
+
+    @Test
+    void hardSeventeenStandsUnderBothRules() {
+        for (DealerTransitionTable table : List.of(S17, H17)) {
+            assertFalse(table.shouldHit(table.stateOf(cards(Rank.TEN, Rank.SEVEN))));
+            // The Ace can no longer count as 11, so this 17 is hard
+            int state = table.stateOf(cards(Rank.ACE, Rank.SIX, Rank.KING));
+            assertEquals(17, table.total(state));
+            assertFalse(table.shouldHit(state));
+            assertTrue(table.shouldHit(table.stateOf(cards(Rank.TEN, Rank.SIX))));
+        }
+    }
+
+    @Test
+    void countsOnlyOneAceAsEleven() {
+        assertEquals(12, S17.total(S17.stateOf(cards(Rank.ACE, Rank.ACE))));
+        assertEquals(21, S17.total(S17.stateOf(cards(Rank.ACE, Rank.ACE, Rank.NINE))));
+        int softSeventeen = H17.stateOf(cards(Rank.ACE, Rank.ACE, Rank.ACE, Rank.FOUR));
+        assertEquals(17, H17.total(softSeventeen));
+        assertTrue(H17.shouldHit(softSeventeen));
+        assertFalse(S17.shouldHit(S17.stateOf(cards(Rank.ACE, Rank.ACE, Rank.ACE, Rank.FOUR))));
+        assertEquals(14, S17.total(S17.stateOf(cards(Rank.ACE, Rank.ACE, Rank.ACE, Rank.ACE, Rank.KING))));
+    }
+
+    @Test
+    void detectsBusts() {
+        int state = S17.stateOf(cards(Rank.TEN, Rank.SIX, Rank.EIGHT));
+        assertTrue(S17.isBust(state));
+        assertEquals(24, S17.total(state));
+        assertFalse(S17.shouldHit(state));
+        assertFalse(S17.isBust(S17.stateOf(cards(Rank.ACE, Rank.FIVE, Rank.TEN, Rank.FIVE))));
+        assertTrue(S17.isBust(S17.stateOf(cards(Rank.KING, Rank.QUEEN, Rank.JACK, Rank.TEN))));
+    }
+
+    @Test
+    void playOutDrawsUntilStanding() {
+        int[] values = {10, 1, 3, 9};
+        int[] next = {0};
+        int state = S17.playOut(S17.stateOf(cards(Rank.TWO, Rank.THREE)), () -> values[next[0]++]);
+        assertEquals(3, next[0]);
+        assertEquals(19, S17.total(state));
+    }
+
+    @Test
+    void matchesHandBasedLogicOnRandomHands() {
+        Random random = new Random(30);
+        for (DealerTransitionTable table : List.of(S17, H17)) {
+            boolean hitSoft17 = table == H17;
+            for (int i = 0; i < 500_000; i++) {
+                Hand hand = new Hand();
+                int size = 1 + random.nextInt(7);
+                for (int c = 0; c < size; c++) {
+                    hand.addCard(Card.fromId(random.nextInt(Card.DISTINCT_CARDS)));
+                }
+                int state = table.stateOf(hand.getCards());
+                assertEquals(referenceShouldHit(hand, hitSoft17), table.shouldHit(state), hand.toString());
+                assertEquals(hand.isBust(), table.isBust(state), hand.toString());
+                if (hand.getValue() <= 21) {
+                    assertEquals(hand.getValue(), table.total(state), hand.toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    void playsSameDealerHandsAsHandBasedLoop() {
+        Random random = new Random(31);
+        for (DealerTransitionTable table : List.of(S17, H17)) {
+            boolean hitSoft17 = table == H17;
+            for (int i = 0; i < 200_000; i++) {
+                Card[] shoe = new Card[12];
+                for (int c = 0; c < shoe.length; c++) {
+                    shoe[c] = Card.fromId(random.nextInt(Card.DISTINCT_CARDS));
+                }
+                Hand hand = new Hand();
+                int drawn = 0;
+                while (referenceShouldHit(hand, hitSoft17)) {
+                    hand.addCard(shoe[drawn++]);
+                }
+                int[] next = {0};
+                int state = table.playOut(DealerTransitionTable.START, () -> shoe[next[0]++].getValue());
+                assertEquals(drawn, next[0]);
+                assertEquals(hand.isBust(), table.isBust(state));
+                if (!hand.isBust()) {
+                    assertEquals(hand.getValue(), table.total(state));
+                }
+            }
+        }
+    }
+
+    /**
+     * The dealer rule as implemented on {@link Hand} before the transition table.
+     */
+    private static boolean referenceShouldHit(Hand hand, boolean hitSoft17) {
+        int value = hand.getValue();
+        if (value < 17) {
+            return true;
+        }
+        if (value == 17 && hitSoft17) {
+            int baseSum = 0;
+            boolean hasAce = false;
+            for (Card card : hand.getCards()) {
+                baseSum += card.getValue();
+                hasAce |= card.getRank() == Rank.ACE;
+            }
+            return hasAce && baseSum + 10 == 17;
+        }
+        return false;
+    }
+
+    private static List<Card> cards(Rank... ranks) {
+        Card[] cards = new Card[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            cards[i] = new Card(Suit.SPADES, ranks[i]);
+        }
+        return List.of(cards);
+    }
+}